@@ -3,6 +3,7 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -21,8 +22,8 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookFileConverter;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -39,12 +40,19 @@ public class MainApp extends Application {
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
+    private static final String MESSAGE_DATA_RECOVERED = "The data file %1$s could not be loaded, so its backup %2$s "
+            + "was loaded instead. Changes saved after that backup may be missing.";
+    private static final String MESSAGE_DAMAGED_FILE_KEPT = " The data file that could not be loaded was copied to "
+            + "%1$s.";
+
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
     protected Model model;
     protected Config config;
 
+    private String startupWarning;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing MatchEstate ]===========================");
@@ -56,14 +64,23 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        Path preferredFilePath = userPrefs.getAddressBookFilePath();
+        AddressBookStorage addressBookStorage = AddressBookFileConverter.createStorage(userPrefs);
+        if (!userPrefs.getAddressBookFilePath().equals(preferredFilePath)) {
+            // Saved at once, so that the next run does not convert the original file again over the converted one.
+            try {
+                userPrefsStorage.saveUserPrefs(userPrefs);
+            } catch (IOException e) {
+                logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+            }
+        }
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, true);
 
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
 
-        ui = new UiManager(logic);
+        ui = new UiManager(logic, startupWarning);
     }
 
     /**
@@ -77,12 +94,18 @@ public class MainApp extends Application {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
+            long startTime = System.nanoTime();
             addressBookOptional = storage.readAddressBook();
+            logger.info("Read data file in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + " ms");
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            Optional<Path> recoveredBackupPath = storage.getRecoveredBackupPath();
+            if (recoveredBackupPath.isPresent()) {
+                handleRecoveredFile(storage.getAddressBookFilePath(), recoveredBackupPath.get());
+            }
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with a sample AddressBook.");
@@ -94,9 +117,41 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Keeps a copy of the data file at {@code damagedFilePath}, which the next save replaces, and warns the user that
+     * the backup at {@code backupPath} was loaded in its place.
+     */
+    private void handleRecoveredFile(Path damagedFilePath, Path backupPath) {
+        logger.warning("Data file at " + damagedFilePath + " could not be loaded. Loaded backup " + backupPath
+                + " instead.");
+        startupWarning = String.format(MESSAGE_DATA_RECOVERED, damagedFilePath, backupPath);
+
+        Path copyPath = getInvalidFilePath(damagedFilePath);
+        try {
+            java.nio.file.Files.copy(damagedFilePath, copyPath);
+            startupWarning += String.format(MESSAGE_DAMAGED_FILE_KEPT, copyPath);
+        } catch (IOException ioException) {
+            logger.warning("Failed to copy damaged file: " + StringUtil.getDetails(ioException));
+        }
+    }
+
     private void handleCorruptedFile(Path corruptedFilePath) {
-        // Rename the corrupted file with incrementing number if needed
-        Path directory = corruptedFilePath.getParent();
+        Path newFilePath = getInvalidFilePath(corruptedFilePath);
+
+        try {
+            java.nio.file.Files.move(corruptedFilePath, newFilePath);
+            logger.warning("Renamed corrupted file to: " + newFilePath);
+        } catch (IOException ioException) {
+            logger.warning("Failed to rename corrupted file: " + StringUtil.getDetails(ioException));
+        }
+    }
+
+    /**
+     * Returns a path next to {@code invalidFilePath} that no file is at yet, to keep the invalid file at.
+     */
+    private static Path getInvalidFilePath(Path invalidFilePath) {
+        // Number the file with an incrementing number if needed
+        Path directory = invalidFilePath.getParent();
         String baseName = "invalid_matchestate";
         String extension = ".json";
 
@@ -107,13 +162,7 @@ public class MainApp extends Application {
             newFilePath = directory.resolve(baseName + "_" + counter + extension);
             counter++;
         }
-
-        try {
-            java.nio.file.Files.move(corruptedFilePath, newFilePath);
-            logger.warning("Renamed corrupted file to: " + newFilePath);
-        } catch (IOException ioException) {
-            logger.warning("Failed to rename corrupted file: " + StringUtil.getDetails(ioException));
-        }
+        return newFilePath;
     }
 
     private void initLogging(Config config) {
@@ -205,5 +254,13 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            if (model.getAddressBook().hasChanges()) {
+                storage.saveAddressBook(model.getAddressBook());
+            }
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
     }
 }
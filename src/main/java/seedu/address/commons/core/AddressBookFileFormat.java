@@ -0,0 +1,26 @@
+package seedu.address.commons.core;
+
+/**
+ * Format of the file that the address book is saved in.
+ */
+public enum AddressBookFileFormat {
+    /** Human-readable JSON, which can be edited by hand. */
+    JSON(".json"),
+    /** Compact binary snapshot, which is smaller and faster to load and save. */
+    BINARY(".bin"),
+    /** Directory of JSON files that each hold a share of the data, so that a save only rewrites the changed files. */
+    SHARDED("");
+
+    private final String fileExtension;
+
+    AddressBookFileFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Returns the extension of the names of the files saved in this format, which is empty for a directory.
+     */
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
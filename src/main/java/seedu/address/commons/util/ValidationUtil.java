@@ -0,0 +1,83 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.regex.Pattern;
+
+/**
+ * Helper functions for validating the values of fields, such as the names and numbers a user types in or a data
+ * file holds.
+ * <p>
+ * {@code String.matches} compiles its regex on every call, so value classes instead compile their patterns once
+ * and test against them with {@link #matches(Pattern, String)}. The simplest formats, runs of ASCII digits or
+ * letters, are checked by scanning the characters directly, without a regex.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if the whole of {@code test} matches {@code pattern}.
+     */
+    public static boolean matches(Pattern pattern, String test) {
+        requireAllNonNull(pattern, test);
+        return pattern.matcher(test).matches();
+    }
+
+    /**
+     * Returns true if {@code test} from {@code beginIndex} to its end is between {@code minLength} and
+     * {@code maxLength} ASCII digits, inclusive.
+     */
+    public static boolean isAsciiDigits(String test, int beginIndex, int minLength, int maxLength) {
+        if (!hasLength(test, beginIndex, minLength, maxLength)) {
+            return false;
+        }
+
+        for (int i = beginIndex; i < test.length(); i++) {
+            if (!isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is between {@code minLength} and {@code maxLength} ASCII digits, inclusive.
+     */
+    public static boolean isAsciiDigits(String test, int minLength, int maxLength) {
+        return isAsciiDigits(test, 0, minLength, maxLength);
+    }
+
+    /**
+     * Returns true if {@code test} is between {@code minLength} and {@code maxLength} ASCII letters or digits,
+     * inclusive.
+     */
+    public static boolean isAsciiAlphanumeric(String test, int minLength, int maxLength) {
+        if (!hasLength(test, 0, minLength, maxLength)) {
+            return false;
+        }
+
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!isAsciiDigit(c) && !isAsciiLetter(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasLength(String test, int beginIndex, int minLength, int maxLength) {
+        requireNonNull(test);
+        checkArgument(beginIndex >= 0 && minLength >= 0 && minLength <= maxLength, "Invalid bounds");
+        int length = test.length() - beginIndex;
+        return length >= minLength && length <= maxLength;
+    }
+
+    public static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    public static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+}
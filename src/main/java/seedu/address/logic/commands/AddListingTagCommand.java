@@ -89,7 +89,7 @@ public class AddListingTagCommand extends Command {
         }
 
         model.setListing(listingToAddTags, listingToAddTags);
-        model.resetAllLists();
+        model.resetAllListsExceptLiveMatches();
 
         return new CommandResult(String.format(MESSAGE_SUCCESS,
                 Messages.format(listingToAddTags.getTags(), listingToAddTags)));
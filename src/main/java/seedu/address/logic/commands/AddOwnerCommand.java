@@ -62,7 +62,7 @@ public class AddOwnerCommand extends Command {
 
         model.setPerson(personToAddListing, personToAddListing);
         model.setListing(listing, listing);
-        model.resetAllLists();
+        model.resetAllListsExceptLiveMatches();
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(personToAddListing,
                 listing)));
@@ -125,7 +125,7 @@ public class AddPreferenceTagCommand extends Command {
             preference.addTag(tag);
         }
         model.setPerson(targetPerson, targetPerson);
-        model.resetAllLists();
+        model.resetAllListsExceptLiveMatches();
     }
 
     @Override
@@ -54,6 +54,14 @@ public class CommandResult {
         return exit;
     }
 
+    /**
+     * Returns a copy of this {@code CommandResult} with {@code warning} shown to the user after the feedback.
+     */
+    public CommandResult withWarning(String warning) {
+        requireNonNull(warning);
+        return new CommandResult(feedbackToUser + "\n" + warning, showHelp, exit);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
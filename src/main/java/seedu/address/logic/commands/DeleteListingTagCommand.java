@@ -83,7 +83,7 @@ public class DeleteListingTagCommand extends Command {
             deletedTags.add(tag);
         }
 
-        model.resetAllLists();
+        model.resetAllListsExceptLiveMatches();
 
         return new CommandResult(String.format(Messages.MESSAGE_DELETE_LISTING_TAG_SUCCESS,
                 listingToEdit.getPostalCode(), Messages.format(deletedTags)));
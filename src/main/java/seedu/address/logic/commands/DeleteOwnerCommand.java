@@ -60,7 +60,7 @@ public class DeleteOwnerCommand extends Command {
 
         model.setPerson(ownerToDelete, ownerToDelete);
         model.setListing(targetListing, targetListing);
-        model.resetAllLists();
+        model.resetAllListsExceptLiveMatches();
 
         return new CommandResult(String.format(MESSAGE_DELETE_OWNER_SUCCESS, Messages.format(ownerToDelete)));
     }
@@ -101,7 +101,7 @@ public class DeletePreferenceTagCommand extends Command {
             preference.removeTag(tag);
         }
         model.setPerson(targetPerson, targetPerson);
-        model.resetAllLists();
+        model.resetAllListsExceptLiveMatches();
     }
 
     @Override
@@ -37,6 +37,9 @@ public class ListListingCommand extends Command {
             searchContext.setActiveSearchTags(new HashSet<>());
         }
 
+        // Every listing is shown, so there are no more matched listings to show.
+        searchContext.setTopListingMatches(null);
+
         // Update the filtered listing list to show all listings and default sort.
         model.updateFilteredListingList(PREDICATE_SHOW_ALL_LISTINGS);
         model.updateSortedFilteredListingList(COMPARATOR_SHOW_ALL_LISTINGS);
@@ -42,6 +42,9 @@ public class ListPersonCommand extends Command {
         // Reset the property preference predicate to show all property preferences.
         searchContext.setPropertyPreferencePredicate(PREDICATE_SHOW_ALL_PROPERTY_PREFERENCES);
 
+        // Every person is shown, so there are no more matched persons to show.
+        searchContext.setTopPersonMatches(null);
+
         // Reset the person predicate to show all persons and default sort.
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         model.updateSortedFilteredPersonList(COMPARATOR_SHOW_ALL_PERSONS); // Trigger re-render
@@ -45,7 +45,7 @@ public class MarkAvailableCommand extends Command {
         toMarkAvailable.markAvailable();
         model.setListing(toMarkAvailable, toMarkAvailable);
 
-        model.resetAllLists();
+        model.resetAllListsExceptLiveMatches();
 
         return new CommandResult(String.format(MESSAGE_MARK_AVAILABLE_SUCCESS,
                 Messages.format(toMarkAvailable.getAvailability(), toMarkAvailable)));
@@ -45,7 +45,7 @@ public class MarkUnavailableCommand extends Command {
         toMarkUnavailable.markUnavailable();
         model.setListing(toMarkUnavailable, toMarkUnavailable);
 
-        model.resetAllLists();
+        model.resetAllListsExceptLiveMatches();
 
         return new CommandResult(String.format(MESSAGE_MARK_UNAVAILABLE_SUCCESS,
                 Messages.format(toMarkUnavailable.getAvailability(), toMarkUnavailable)));
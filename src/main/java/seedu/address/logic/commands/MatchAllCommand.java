@@ -0,0 +1,103 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.search.AllPairsMatcher;
+import seedu.address.model.search.ListingMatches;
+import seedu.address.model.search.comparators.DefaultListingComparator;
+
+/**
+ * Matches every available {@code Listing} against every {@code PropertyPreference} in the address book, as
+ * {@code MatchListingCommand} would for each listing, and writes the matches to a report file next to the data file.
+ * For each listing, the report lists the matching preferences in descending order of their match scores.
+ * The displayed lists are not changed.
+ */
+public class MatchAllCommand extends Command {
+
+    public static final String COMMAND_WORD = "matchAll";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Matches every available listing to every preference and writes the matches to a report file."
+            + "\nExample: "
+            + COMMAND_WORD;
+
+    public static final String REPORT_FILE_NAME = "matchReport.txt";
+
+    public static final String MESSAGE_SUCCESS = "Matched %1$d available listings to %2$d preferences. "
+            + "Report written to %3$s";
+    public static final String MESSAGE_REPORT_FAILED = "Could not write the match report due to the following "
+            + "error: %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(MatchAllCommand.class);
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<Listing> listings = model.getAddressBook().getListingList().stream()
+                .filter(Listing::getAvailability)
+                .sorted(new DefaultListingComparator())
+                .toList();
+
+        // The matches of each listing are written as they are matched, so they are not all kept at once.
+        long startTime = System.nanoTime();
+        Path reportFilePath = model.getAddressBookFilePath().resolveSibling(REPORT_FILE_NAME);
+        try {
+            writeReport(reportFilePath, new AllPairsMatcher(model).matchAll(listings));
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_REPORT_FAILED, ioe.getMessage()), ioe);
+        }
+        logger.info(String.format("Matched %d listings and wrote the report in %d ms", listings.size(),
+                (System.nanoTime() - startTime) / 1_000_000));
+
+        int preferenceCount = model.getAddressBook().getPersonList().stream()
+                .mapToInt(person -> person.getPropertyPreferences().size())
+                .sum();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, listings.size(), preferenceCount, reportFilePath));
+    }
+
+    private static void writeReport(Path reportFilePath, Iterable<ListingMatches> matches) throws IOException {
+        FileUtil.createParentDirsOfFile(reportFilePath);
+        FileUtil.writeAndSync(reportFilePath, out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            for (ListingMatches listingMatches : matches) {
+                writeListingMatches(writer, listingMatches);
+            }
+            writer.flush();
+        });
+    }
+
+    private static void writeListingMatches(Writer writer, ListingMatches listingMatches) throws IOException {
+        List<PropertyPreference> preferences = listingMatches.getRankedPreferences();
+        writer.write("Listing" + Messages.format(listingMatches.getListing()) + System.lineSeparator());
+        writer.write(String.format("%d matching preferences%n", preferences.size()));
+
+        for (int rank = 0; rank < preferences.size(); rank++) {
+            PropertyPreference preference = preferences.get(rank);
+            writer.write(String.format("  %d. Score %d - %s; Phone: %s%n", rank + 1, listingMatches.getScore(rank),
+                    Messages.format(preference.getPerson(), preference), preference.getPerson().getPhone()));
+        }
+        writer.write(System.lineSeparator());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof MatchAllCommand;
+    }
+}
@@ -1,7 +1,12 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+
+import java.util.HashSet;
+import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.CommandUtil;
@@ -10,10 +15,14 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.search.MatchEngine;
 import seedu.address.model.search.SearchType;
-import seedu.address.model.search.comparators.PersonListingScoreComparator;
+import seedu.address.model.search.TopMatches;
 import seedu.address.model.search.predicates.PersonMatchesPropertyPredicate;
 import seedu.address.model.search.predicates.PropertyPreferencesMatchesListingPredicate;
+import seedu.address.model.tag.Tag;
 
 /**
  * Lists all {@code Person}(s) that have {@code PropertyPreference}(s) that match the specified {@code Listing} in the
@@ -32,13 +41,15 @@ public class MatchListingCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Finds persons whose preferences match a listing."
             + "\nParameters: "
-            + "LISTING_INDEX (must be a positive integer)"
+            + "LISTING_INDEX (must be a positive integer) "
+            + "[" + PREFIX_LIMIT + "LIMIT (must be a positive integer)]"
             + "\nExample: "
-            + COMMAND_WORD + " 1";
+            + COMMAND_WORD + " 1 " + PREFIX_LIMIT + "20";
 
     public static final String MESSAGE_MATCH_LISTING_SUCCESS = "Matched Listing: %1$s";
 
     private final Index targetListingIndex;
+    private final int limit;
 
     /**
      * Creates a {@code MatchListingCommand} to match {@code Person}s' @code PropertyPreference} to the
@@ -47,9 +58,22 @@ public class MatchListingCommand extends Command {
      * @param targetListingIndex The index of the listing in the filtered listing list to match to.
      */
     public MatchListingCommand(Index targetListingIndex) {
+        this(targetListingIndex, ShowMoreMatchesCommand.NO_LIMIT);
+    }
+
+    /**
+     * Creates a {@code MatchListingCommand} to match {@code Person}s' @code PropertyPreference} to the
+     * specified {@code Listing}, showing only the best {@code limit} matches at first.
+     *
+     * @param targetListingIndex The index of the listing in the filtered listing list to match to.
+     * @param limit The number of matches to show at a time, or {@code ShowMoreMatchesCommand.NO_LIMIT}.
+     */
+    public MatchListingCommand(Index targetListingIndex, int limit) {
         requireNonNull(targetListingIndex);
+        checkArgument(limit > 0 || limit == ShowMoreMatchesCommand.NO_LIMIT, "The limit must be positive");
 
         this.targetListingIndex = targetListingIndex;
+        this.limit = limit;
     }
 
     @Override
@@ -57,12 +81,16 @@ public class MatchListingCommand extends Command {
         requireNonNull(model);
 
         Listing listingToMatch = CommandUtil.getValidatedListing(model, targetListingIndex, MESSAGE_USAGE);
-        matchListing(model, listingToMatch);
+        TopMatches<Person> topMatches = matchListing(model, listingToMatch);
 
-        return new CommandResult(String.format(MESSAGE_MATCH_LISTING_SUCCESS, Messages.format(listingToMatch)));
+        return new CommandResult(String.format(MESSAGE_MATCH_LISTING_SUCCESS, Messages.format(listingToMatch))
+                + ShowMoreMatchesCommand.formatShownCount(topMatches));
     }
 
-    private void matchListing(Model model, Listing listingToMatch) {
+    /**
+     * Shows the persons matching {@code listingToMatch}, and returns the matches shown if only the best are.
+     */
+    private TopMatches<Person> matchListing(Model model, Listing listingToMatch) {
         requireAllNonNull(model, listingToMatch);
 
         model.resetAllLists();
@@ -72,8 +100,36 @@ public class MatchListingCommand extends Command {
                 SearchType.PERSON,
                 new PropertyPreferencesMatchesListingPredicate(listingToMatch));
 
-        model.updateFilteredPersonList(new PersonMatchesPropertyPredicate(listingToMatch));
-        model.updateSortedFilteredPersonList(new PersonListingScoreComparator(listingToMatch));
+        if (limit == ShowMoreMatchesCommand.NO_LIMIT) {
+            model.showListingMatches(listingToMatch);
+            return null;
+        }
+
+        Set<Person> candidates = getCandidatePersons(model, listingToMatch);
+        candidates.removeIf(new PersonMatchesPropertyPredicate(listingToMatch, candidates).negate());
+        TopMatches<Person> topMatches = new TopMatches<>(MatchEngine.rankPersons(listingToMatch, candidates), limit);
+        model.getSearchContext().setTopPersonMatches(topMatches);
+        model.updateFilteredPersonList(topMatches);
+        model.updateSortedFilteredPersonList(topMatches.getRanking());
+        return topMatches;
+    }
+
+    /**
+     * Returns the persons with a property preference that has an overlapping price range or shares a tag with
+     * {@code listingToMatch}, found through the price range index and the tags instead of testing every person.
+     */
+    private static Set<Person> getCandidatePersons(Model model, Listing listingToMatch) {
+        Set<Person> candidates = new HashSet<>();
+        for (PropertyPreference preference : model.getPreferencesWithPriceRangeOverlapping(
+                listingToMatch.getPriceRange())) {
+            candidates.add(preference.getPerson());
+        }
+        for (Tag tag : listingToMatch.getTags()) {
+            for (PropertyPreference preference : tag.getPropertyPreferences()) {
+                candidates.add(preference.getPerson());
+            }
+        }
+        return candidates;
     }
 
     @Override
@@ -88,13 +144,15 @@ public class MatchListingCommand extends Command {
         }
 
         MatchListingCommand otherDeleteCommand = (MatchListingCommand) other;
-        return targetListingIndex.equals(otherDeleteCommand.targetListingIndex);
+        return targetListingIndex.equals(otherDeleteCommand.targetListingIndex)
+                && limit == otherDeleteCommand.limit;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("targetListingIndex", targetListingIndex)
+                .add("limit", limit)
                 .toString();
     }
 }
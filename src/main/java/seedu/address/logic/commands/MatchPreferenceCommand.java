@@ -1,10 +1,13 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.CommandUtil;
@@ -12,11 +15,14 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.listing.Listing;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.search.MatchEngine;
 import seedu.address.model.search.SearchType;
-import seedu.address.model.search.comparators.ListingPreferenceScoreComparator;
+import seedu.address.model.search.TopMatches;
 import seedu.address.model.search.predicates.ListingMatchesPreferencePredicate;
+import seedu.address.model.tag.Tag;
 
 /**
  * Lists all {@code Listing}(s) that match the specified {@code PropertyPreference} of a {@code Person} in the address
@@ -36,15 +42,17 @@ public class MatchPreferenceCommand extends Command {
             + ": Finds listings matching a person's preference."
             + "\nParameters: "
             + "PERSON_INDEX (must be a positive integer) "
-            + "PREFERENCE_INDEX (must be a positive integer)"
+            + "PREFERENCE_INDEX (must be a positive integer) "
+            + "[" + PREFIX_LIMIT + "LIMIT (must be a positive integer)]"
             + "\nExample: "
-            + COMMAND_WORD + " 1 2";
+            + COMMAND_WORD + " 1 2 " + PREFIX_LIMIT + "20";
 
     public static final String MESSAGE_MATCH_PERSON_SUCCESS = "Matched Listings for %1$s's Preference - "
             + "Price Range: %2$s, Tags: %3$s";
 
     private final Index targetPersonIndex;
     private final Index targetPreferenceIndex;
+    private final int limit;
 
     /**
      * Creates a {@code MatchPreferenceCommand} to match {@code Listing}s to the specified {@code PropertyPreference}.
@@ -53,10 +61,24 @@ public class MatchPreferenceCommand extends Command {
      * @param targetPreferenceIndex The index of the preference to match to.
      */
     public MatchPreferenceCommand(Index targetPersonIndex, Index targetPreferenceIndex) {
+        this(targetPersonIndex, targetPreferenceIndex, ShowMoreMatchesCommand.NO_LIMIT);
+    }
+
+    /**
+     * Creates a {@code MatchPreferenceCommand} to match {@code Listing}s to the specified {@code PropertyPreference},
+     * showing only the best {@code limit} matches at first.
+     *
+     * @param targetPersonIndex The index of the person in the filtered person list that the preference is located in.
+     * @param targetPreferenceIndex The index of the preference to match to.
+     * @param limit The number of matches to show at a time, or {@code ShowMoreMatchesCommand.NO_LIMIT}.
+     */
+    public MatchPreferenceCommand(Index targetPersonIndex, Index targetPreferenceIndex, int limit) {
         requireAllNonNull(targetPersonIndex, targetPreferenceIndex);
+        checkArgument(limit > 0 || limit == ShowMoreMatchesCommand.NO_LIMIT, "The limit must be positive");
 
         this.targetPersonIndex = targetPersonIndex;
         this.targetPreferenceIndex = targetPreferenceIndex;
+        this.limit = limit;
     }
 
     @Override
@@ -77,17 +99,20 @@ public class MatchPreferenceCommand extends Command {
         }
 
         PropertyPreference preferenceToMatch = targetPreferenceList.get(targetPreferenceIndex.getZeroBased());
-        matchPreference(model, preferenceToMatch);
+        TopMatches<Listing> topMatches = matchPreference(model, preferenceToMatch);
 
         String successMessage = String.format(MESSAGE_MATCH_PERSON_SUCCESS,
                 targetPerson.getName(),
                 preferenceToMatch.getPriceRange(),
                 Messages.format(preferenceToMatch.getTags()));
 
-        return new CommandResult(successMessage);
+        return new CommandResult(successMessage + ShowMoreMatchesCommand.formatShownCount(topMatches));
     }
 
-    private void matchPreference(Model model, PropertyPreference preferenceToMatch) {
+    /**
+     * Shows the listings matching {@code preferenceToMatch}, and returns the matches shown if only the best are.
+     */
+    private TopMatches<Listing> matchPreference(Model model, PropertyPreference preferenceToMatch) {
         requireAllNonNull(model, preferenceToMatch);
 
         model.resetAllLists();
@@ -97,8 +122,32 @@ public class MatchPreferenceCommand extends Command {
                 SearchType.LISTING,
                 Model.PREDICATE_SHOW_ALL_PROPERTY_PREFERENCES);
 
-        model.updateFilteredListingList(new ListingMatchesPreferencePredicate(preferenceToMatch));
-        model.updateSortedFilteredListingList(new ListingPreferenceScoreComparator(preferenceToMatch));
+        if (limit == ShowMoreMatchesCommand.NO_LIMIT) {
+            model.showPreferenceMatches(preferenceToMatch);
+            return null;
+        }
+
+        Set<Listing> candidates = getCandidateListings(model, preferenceToMatch);
+        candidates.removeIf(new ListingMatchesPreferencePredicate(preferenceToMatch, candidates).negate());
+        TopMatches<Listing> topMatches = new TopMatches<>(MatchEngine.rankListings(preferenceToMatch, candidates),
+                limit);
+        model.getSearchContext().setTopListingMatches(topMatches);
+        model.updateFilteredListingList(topMatches);
+        model.updateSortedFilteredListingList(topMatches.getRanking());
+        return topMatches;
+    }
+
+    /**
+     * Returns the listings that have an overlapping price range or share a tag with {@code preferenceToMatch}, found
+     * through the price range index and the tags instead of testing every listing.
+     */
+    private static Set<Listing> getCandidateListings(Model model, PropertyPreference preferenceToMatch) {
+        Set<Listing> candidates = new HashSet<>(
+                model.getListingsWithPriceRangeOverlapping(preferenceToMatch.getPriceRange()));
+        for (Tag tag : preferenceToMatch.getTags()) {
+            candidates.addAll(tag.getListings());
+        }
+        return candidates;
     }
 
     @Override
@@ -114,7 +163,8 @@ public class MatchPreferenceCommand extends Command {
 
         MatchPreferenceCommand otherDeleteCommand = (MatchPreferenceCommand) other;
         return targetPersonIndex.equals(otherDeleteCommand.targetPersonIndex)
-                && targetPreferenceIndex.equals(otherDeleteCommand.targetPreferenceIndex);
+                && targetPreferenceIndex.equals(otherDeleteCommand.targetPreferenceIndex)
+                && limit == otherDeleteCommand.limit;
     }
 
     @Override
@@ -122,6 +172,7 @@ public class MatchPreferenceCommand extends Command {
         return new ToStringBuilder(this)
                 .add("targetPersonIndex", targetPersonIndex)
                 .add("targetPreferenceIndex", targetPreferenceIndex)
+                .add("limit", limit)
                 .toString();
     }
 }
@@ -82,7 +82,7 @@ public class OverwriteListingTagCommand extends Command {
         addNewTags(model, listing, newTags);
 
         model.setListing(listing, listing);
-        model.resetAllLists();
+        model.resetAllListsExceptLiveMatches();
     }
 
     /**
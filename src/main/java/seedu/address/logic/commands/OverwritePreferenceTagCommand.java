@@ -112,7 +112,7 @@ public class OverwritePreferenceTagCommand extends Command {
         }
 
         model.setPerson(targetPerson, targetPerson);
-        model.resetAllLists();
+        model.resetAllListsExceptLiveMatches();
     }
 
     private CommandResult generateCommandResult(PropertyPreference preference) {
@@ -13,6 +13,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
 import seedu.address.model.search.SearchType;
 import seedu.address.model.search.predicates.PersonPropertyPreferencesContainAllTagsPredicate;
 import seedu.address.model.search.predicates.PropertyPreferencesContainAllActiveSearchTagsPredicate;
@@ -73,7 +74,12 @@ public class SearchPersonByTagCommand extends Command {
                 SearchType.PERSON,
                 new PropertyPreferencesContainAllActiveSearchTagsPredicate(activeTags));
 
-        model.updateFilteredPersonList(new PersonPropertyPreferencesContainAllTagsPredicate(tagsToSearch));
+        Set<Person> matchingPersons = new HashSet<>();
+        for (PropertyPreference preference : model.getPreferencesWithAllTags(tagsToSearch)) {
+            matchingPersons.add(preference.getPerson());
+        }
+        model.updateFilteredPersonList(new PersonPropertyPreferencesContainAllTagsPredicate(tagsToSearch,
+                matchingPersons));
         List<Person> filteredPersons = model.getSortedFilteredPersonList();
 
         if (filteredPersons.isEmpty()) {
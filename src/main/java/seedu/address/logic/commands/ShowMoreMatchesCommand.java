@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.SearchContext;
+import seedu.address.model.search.SearchType;
+import seedu.address.model.search.TopMatches;
+
+/**
+ * Shows the next page of matches of the last {@code MatchListingCommand} or {@code MatchPreferenceCommand} that was
+ * limited to its best matches.
+ */
+public class ShowMoreMatchesCommand extends Command {
+
+    public static final String COMMAND_WORD = "moreMatches";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows more matches of the last match command that was given a limit."
+            + "\nExample: "
+            + COMMAND_WORD;
+
+    public static final String MESSAGE_SHOWN_COUNT = "\nShowing the best %1$d of %2$d matches.";
+    public static final String MESSAGE_MORE_MATCHES = " Enter " + COMMAND_WORD + " to show more.";
+    public static final String MESSAGE_SUCCESS = "Showing more matches.";
+    public static final String MESSAGE_NO_LIMITED_MATCH = "There are no limited matches shown to show more of.";
+    public static final String MESSAGE_NO_MORE_MATCHES = "Every match is already shown.";
+
+    /** The limit of a match command that shows every match. */
+    public static final int NO_LIMIT = -1;
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        SearchContext searchContext = model.getSearchContext();
+
+        if (searchContext.getSearchType() == SearchType.PERSON && searchContext.getTopPersonMatches() != null) {
+            TopMatches<Person> topMatches = showMore(searchContext.getTopPersonMatches());
+            searchContext.setTopPersonMatches(topMatches);
+            model.updateFilteredPersonList(topMatches);
+            return new CommandResult(MESSAGE_SUCCESS + formatShownCount(topMatches));
+        }
+
+        if (searchContext.getSearchType() == SearchType.LISTING && searchContext.getTopListingMatches() != null) {
+            TopMatches<Listing> topMatches = showMore(searchContext.getTopListingMatches());
+            searchContext.setTopListingMatches(topMatches);
+            model.updateFilteredListingList(topMatches);
+            return new CommandResult(MESSAGE_SUCCESS + formatShownCount(topMatches));
+        }
+
+        throw new CommandException(MESSAGE_NO_LIMITED_MATCH);
+    }
+
+    private static <T> TopMatches<T> showMore(TopMatches<T> topMatches) throws CommandException {
+        if (!topMatches.hasMore()) {
+            throw new CommandException(MESSAGE_NO_MORE_MATCHES);
+        }
+        return topMatches.showMore();
+    }
+
+    /**
+     * Returns a line telling how many of the matches are shown, or an empty string if {@code topMatches} is null
+     * because every match is shown.
+     */
+    static String formatShownCount(TopMatches<?> topMatches) {
+        if (topMatches == null) {
+            return "";
+        }
+
+        String shownCount = String.format(MESSAGE_SHOWN_COUNT, topMatches.getShownCount(),
+                topMatches.getTotalCount());
+        return topMatches.hasMore() ? shownCount + MESSAGE_MORE_MATCHES : shownCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof ShowMoreMatchesCommand;
+    }
+}
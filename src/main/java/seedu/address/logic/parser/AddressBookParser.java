@@ -31,6 +31,7 @@ import seedu.address.logic.commands.ListListingCommand;
 import seedu.address.logic.commands.ListPersonCommand;
 import seedu.address.logic.commands.MarkAvailableCommand;
 import seedu.address.logic.commands.MarkUnavailableCommand;
+import seedu.address.logic.commands.MatchAllCommand;
 import seedu.address.logic.commands.MatchListingCommand;
 import seedu.address.logic.commands.MatchPreferenceCommand;
 import seedu.address.logic.commands.OverwriteListingTagCommand;
@@ -39,6 +40,7 @@ import seedu.address.logic.commands.SearchListingByTagCommand;
 import seedu.address.logic.commands.SearchOwnerListingCommand;
 import seedu.address.logic.commands.SearchPersonByNameCommand;
 import seedu.address.logic.commands.SearchPersonByTagCommand;
+import seedu.address.logic.commands.ShowMoreMatchesCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -117,6 +119,12 @@ public class AddressBookParser {
         case MatchPreferenceCommand.COMMAND_WORD:
             return new MatchPreferenceCommandParser().parse(arguments);
 
+        case MatchAllCommand.COMMAND_WORD:
+            return new MatchAllCommand();
+
+        case ShowMoreMatchesCommand.COMMAND_WORD:
+            return new ShowMoreMatchesCommand();
+
         case SearchOwnerListingCommand.COMMAND_WORD:
             return new SearchOwnerListingCommandParser().parse(arguments);
 
@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_ARGUMENTS_EMPTY;
 import static seedu.address.logic.Messages.MESSAGE_ONE_INDEX_EXPECTED;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.MatchListingCommand;
@@ -21,10 +22,15 @@ public class MatchListingCommandParser implements Parser<MatchListingCommand> {
      * @throws ParseException if the user input does not conform the expected format.
      */
     public MatchListingCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_LIMIT);
         checkCommandFormat(argMultimap, args);
-        Index index = ParserUtil.parseIndex(args);
-        return new MatchListingCommand(index);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_LIMIT);
+        Index index = ParserUtil.parseIndex(argMultimap.getPreamble());
+
+        if (argMultimap.getValue(PREFIX_LIMIT).isEmpty()) {
+            return new MatchListingCommand(index);
+        }
+        return new MatchListingCommand(index, ParserUtil.parseLimit(argMultimap.getValue(PREFIX_LIMIT).get()));
     }
 
     private static void checkCommandFormat(ArgumentMultimap argMultimap, String args) throws ParseException {
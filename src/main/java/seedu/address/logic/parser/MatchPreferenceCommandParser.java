@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_ARGUMENTS_EMPTY;
 import static seedu.address.logic.Messages.MESSAGE_EXPECTED_TWO_INDICES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
 
 import java.util.List;
 
@@ -27,12 +28,20 @@ public class MatchPreferenceCommandParser implements Parser<MatchPreferenceComma
      * @throws ParseException if the user input does not conform the expected format.
      */
     public MatchPreferenceCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_LIMIT);
 
         checkCommandFormat(argMultimap, args);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_LIMIT);
 
-        List<Index> multipleIndices = ParserUtil.parseMultipleIndices(args);
-        return new MatchPreferenceCommand(multipleIndices.get(FIRST_INDEX), multipleIndices.get(SECOND_INDEX));
+        List<Index> multipleIndices = ParserUtil.parseMultipleIndices(argMultimap.getPreamble());
+        Index personIndex = multipleIndices.get(FIRST_INDEX);
+        Index preferenceIndex = multipleIndices.get(SECOND_INDEX);
+
+        if (argMultimap.getValue(PREFIX_LIMIT).isEmpty()) {
+            return new MatchPreferenceCommand(personIndex, preferenceIndex);
+        }
+        return new MatchPreferenceCommand(personIndex, preferenceIndex,
+                ParserUtil.parseLimit(argMultimap.getValue(PREFIX_LIMIT).get()));
     }
 
     private static void checkCommandFormat(ArgumentMultimap argMultimap, String args) throws ParseException {
@@ -3,17 +3,25 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.listing.Listing;
+import seedu.address.model.listing.PostalCode;
 import seedu.address.model.listing.UniqueListingList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.price.PriceRangeIndex;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagBitmapIndex;
 import seedu.address.model.tag.UniqueTagMap;
 
 /**
@@ -26,6 +34,16 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniqueListingList listings;
     private final UniqueTagMap tags;
 
+    // Indexes listings and property preferences by price range and tags, keeping the preferences indexed for each
+    // person so that they can be unindexed after the person's preferences have changed.
+    private final PriceRangeIndex<Listing> listingsByPriceRange = new PriceRangeIndex<>();
+    private final PriceRangeIndex<PropertyPreference> preferencesByPriceRange = new PriceRangeIndex<>();
+    private final TagBitmapIndex<Listing> listingsByTag = new TagBitmapIndex<>();
+    private final TagBitmapIndex<PropertyPreference> preferencesByTag = new TagBitmapIndex<>();
+    private final Map<Person, List<PropertyPreference>> indexedPreferences = new IdentityHashMap<>();
+
+    private AddressBookChanges changes = new AddressBookChanges();
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -58,6 +76,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        preferencesByPriceRange.clear();
+        preferencesByTag.clear();
+        indexedPreferences.clear();
+        for (Person person : persons) {
+            indexPreferences(null, person);
+        }
+        changes.recordReset();
     }
 
     /**
@@ -68,6 +93,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setListings(List<Listing> listings) {
         this.listings.setListings(listings);
+        listingsByPriceRange.clear();
+        listingsByTag.clear();
+        for (Listing listing : listings) {
+            indexListing(listing);
+        }
+        changes.recordReset();
     }
 
     /**
@@ -78,6 +109,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setTags(List<Tag> tags) {
         this.tags.setTags(tags);
+        changes.recordReset();
     }
 
     @Override
@@ -105,6 +137,23 @@ public class AddressBook implements ReadOnlyAddressBook {
         return listings.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the persons, listings and tags changed since the last call, and starts recording afresh.
+     *
+     * @return the changes made since the last poll.
+     */
+    @Override
+    public AddressBookChanges pollChanges() {
+        AddressBookChanges polledChanges = changes;
+        changes = new AddressBookChanges();
+        return polledChanges;
+    }
+
+    @Override
+    public boolean hasChanges() {
+        return !changes.isEmpty();
+    }
+
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
      */
@@ -137,6 +186,63 @@ public class AddressBook implements ReadOnlyAddressBook {
         return listings.contains(listing);
     }
 
+    /**
+     * Returns the listings at {@code postalCode}, such as the units of a block, in the order they were added.
+     *
+     * @param postalCode The postal code of the listings.
+     * @return the unmodifiable list of listings at the postal code.
+     */
+    public List<Listing> getListingsWithPostalCode(PostalCode postalCode) {
+        requireNonNull(postalCode);
+        return listings.getListingsWithPostalCode(postalCode);
+    }
+
+    /**
+     * Returns the listings whose price ranges overlap {@code priceRange}, ordered by their lower bound prices.
+     *
+     * @param priceRange The price range to overlap.
+     * @return the listings with overlapping price ranges.
+     */
+    public List<Listing> getListingsWithPriceRangeOverlapping(PriceRange priceRange) {
+        requireNonNull(priceRange);
+        return listingsByPriceRange.getOverlapping(priceRange);
+    }
+
+    /**
+     * Returns the property preferences of the persons in the address book whose price ranges overlap
+     * {@code priceRange}, ordered by their lower bound prices.
+     *
+     * @param priceRange The price range to overlap.
+     * @return the property preferences with overlapping price ranges.
+     */
+    public List<PropertyPreference> getPreferencesWithPriceRangeOverlapping(PriceRange priceRange) {
+        requireNonNull(priceRange);
+        return preferencesByPriceRange.getOverlapping(priceRange);
+    }
+
+    /**
+     * Returns the listings that have every tag in {@code tagNames}, in any letter case.
+     *
+     * @param tagNames The names of the tags the listings must have.
+     * @return the listings with all the tags.
+     */
+    public Set<Listing> getListingsWithAllTags(Set<String> tagNames) {
+        requireNonNull(tagNames);
+        return listingsByTag.getWithAllTags(tagNames);
+    }
+
+    /**
+     * Returns the property preferences of the persons in the address book that have every tag in {@code tagNames},
+     * in any letter case.
+     *
+     * @param tagNames The names of the tags the property preferences must have.
+     * @return the property preferences with all the tags.
+     */
+    public Set<PropertyPreference> getPreferencesWithAllTags(Set<String> tagNames) {
+        requireNonNull(tagNames);
+        return preferencesByTag.getWithAllTags(tagNames);
+    }
+
     /**
      * Checks if A given tag exist in the unique tag map.
      *
@@ -146,8 +252,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public boolean hasTag(String tagName) {
         requireNonNull(tagName);
 
-        Tag tag = new Tag(tagName, new ArrayList<>(), new ArrayList<>());
-        return tags.contains(tag);
+        return tags.contains(tagName);
     }
 
     /**
@@ -159,8 +264,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public boolean hasTags(Set<String> tagNames) {
         requireNonNull(tagNames);
         for (String tagName : tagNames) {
-            Tag tag = new Tag(tagName, new ArrayList<>(), new ArrayList<>());
-            if (!this.tags.contains(tag)) {
+            if (!tags.contains(tagName)) {
                 return false;
             }
         }
@@ -176,8 +280,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public boolean hasNewTags(Set<String> tagNames) {
         requireNonNull(tagNames);
         for (String tagName : tagNames) {
-            Tag tag = new Tag(tagName, new ArrayList<>(), new ArrayList<>());
-            if (this.tags.contains(tag)) {
+            if (tags.contains(tagName)) {
                 return true;
             }
         }
@@ -190,6 +293,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        indexPreferences(null, p);
+        changes.recordPersonUpdated(p);
     }
 
     /**
@@ -201,6 +306,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addListing(Listing listing) {
         listings.add(listing);
+        indexListing(listing);
+        changes.recordListingUpdated(listing);
     }
 
     /**
@@ -210,12 +317,24 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addTag(String tagName) {
         requireNonNull(tagName);
-        Tag tag = new Tag(tagName, new ArrayList<>(), new ArrayList<>());
-        if (!tags.contains(tag)) {
-            this.tags.add(tag);
+        if (!tags.contains(tagName)) {
+            Tag tag = new Tag(tagName, new ArrayList<>(), new ArrayList<>());
+            tags.add(tag);
+            changes.recordTagUpdated(tag);
         }
     }
 
+    /**
+     * Returns the tag with the given tag name in any letter case.
+     *
+     * @param tagName Name of tag to get.
+     * @return the tag with the given tag name, or null if there is no such tag.
+     */
+    public Tag getTag(String tagName) {
+        requireNonNull(tagName);
+        return tags.contains(tagName) ? tags.get(tagName) : null;
+    }
+
     /**
      * Adds multiple tags to the unique tag map.
      *
@@ -237,6 +356,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        indexPreferences(target, editedPerson);
+        if (!target.isSamePerson(editedPerson)) {
+            changes.recordPersonRemoved(target);
+        }
+        changes.recordPersonUpdated(editedPerson);
     }
 
     /**
@@ -249,6 +373,26 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setListing(Listing target, Listing editedPerson) {
         requireNonNull(editedPerson);
         listings.setListing(target, editedPerson);
+        unindexListing(target);
+        indexListing(editedPerson);
+        if (!target.isSameListing(editedPerson)) {
+            changes.recordListingRemoved(target);
+        }
+        changes.recordListingUpdated(editedPerson);
+    }
+
+    /**
+     * Has the views of the person list test and place {@code person} again, without recording a change to save.
+     */
+    void refreshPerson(Person person) {
+        persons.refresh(person);
+    }
+
+    /**
+     * Has the views of the listing list test and place {@code listing} again, without recording a change to save.
+     */
+    void refreshListing(Listing listing) {
+        listings.refresh(listing);
     }
 
     /**
@@ -257,6 +401,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        unindexPreferences(key);
+        changes.recordPersonRemoved(key);
     }
 
     /**
@@ -265,6 +411,66 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     void removeListing(Listing key) {
         listings.remove(key);
+        unindexListing(key);
+        changes.recordListingRemoved(key);
+    }
+
+    /**
+     * Indexes {@code listing} by its price range and current tags.
+     */
+    private void indexListing(Listing listing) {
+        listingsByPriceRange.add(listing, listing.getPriceRange());
+        listingsByTag.add(listing, listing.getTags());
+    }
+
+    private void unindexListing(Listing listing) {
+        listingsByPriceRange.remove(listing);
+        listingsByTag.remove(listing);
+    }
+
+    /**
+     * Indexes the current property preferences of {@code person}, which replaces {@code target}, by price range and
+     * tags. The preferences {@code target} had before stay indexed, and those it no longer has are unindexed.
+     *
+     * @param target The person replaced by {@code person}, or null if {@code person} was just added.
+     * @param person The person whose property preferences are indexed.
+     */
+    private void indexPreferences(Person target, Person person) {
+        List<PropertyPreference> preferences = new ArrayList<>(person.getPropertyPreferences());
+        List<PropertyPreference> previousPreferences = target == null ? null : indexedPreferences.remove(target);
+        if (previousPreferences != null) {
+            Set<PropertyPreference> currentPreferences = Collections.newSetFromMap(new IdentityHashMap<>());
+            currentPreferences.addAll(preferences);
+            for (PropertyPreference preference : previousPreferences) {
+                if (!currentPreferences.contains(preference)) {
+                    unindexPreference(preference);
+                }
+            }
+        }
+
+        for (PropertyPreference preference : preferences) {
+            preferencesByPriceRange.add(preference, preference.getPriceRange());
+            preferencesByTag.add(preference, preference.getTags());
+        }
+        indexedPreferences.put(person, preferences);
+    }
+
+    /**
+     * Unindexes the property preferences of {@code person} that were last indexed.
+     */
+    private void unindexPreferences(Person person) {
+        List<PropertyPreference> preferences = indexedPreferences.remove(person);
+        if (preferences == null) {
+            return;
+        }
+        for (PropertyPreference preference : preferences) {
+            unindexPreference(preference);
+        }
+    }
+
+    private void unindexPreference(PropertyPreference preference) {
+        preferencesByPriceRange.remove(preference);
+        preferencesByTag.remove(preference);
     }
 
     /**
@@ -273,6 +479,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeTag(Tag tag) {
         tags.remove(tag);
+        changes.recordTagRemoved(tag);
     }
 
     //// Utility methods
@@ -304,6 +511,10 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     public void setTag(Tag target, Tag editedTag) {
         tags.setTag(target, editedTag);
+        if (!target.equals(editedTag)) {
+            changes.recordTagRemoved(target);
+        }
+        changes.recordTagUpdated(editedTag);
     }
 
     @Override
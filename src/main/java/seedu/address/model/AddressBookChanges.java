@@ -0,0 +1,187 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Records the persons, listings and tags of an {@code AddressBook} that were added, edited or removed since the
+ * changes were last polled.
+ * Changes are coalesced by identity, so only the latest state of each person, listing or tag is kept. A reset marks
+ * that the whole address book was replaced and individual changes can no longer describe it.
+ */
+public class AddressBookChanges {
+
+    private boolean isReset;
+
+    private final Map<String, Person> updatedPersons = new LinkedHashMap<>();
+    private final Map<String, Person> removedPersons = new LinkedHashMap<>();
+    private final Map<String, Listing> updatedListings = new LinkedHashMap<>();
+    private final Map<String, Listing> removedListings = new LinkedHashMap<>();
+    private final Map<String, Tag> updatedTags = new LinkedHashMap<>();
+    private final Map<String, Tag> removedTags = new LinkedHashMap<>();
+
+    /**
+     * Returns a {@code AddressBookChanges} that marks the whole address book as replaced.
+     */
+    public static AddressBookChanges ofReset() {
+        AddressBookChanges changes = new AddressBookChanges();
+        changes.recordReset();
+        return changes;
+    }
+
+    //// Recording operations
+
+    void recordReset() {
+        isReset = true;
+        updatedPersons.clear();
+        removedPersons.clear();
+        updatedListings.clear();
+        removedListings.clear();
+        updatedTags.clear();
+        removedTags.clear();
+    }
+
+    void recordPersonUpdated(Person person) {
+        requireNonNull(person);
+        if (isReset) {
+            return;
+        }
+        String key = getPersonKey(person);
+        removedPersons.remove(key);
+        updatedPersons.put(key, person);
+    }
+
+    void recordPersonRemoved(Person person) {
+        requireNonNull(person);
+        if (isReset) {
+            return;
+        }
+        String key = getPersonKey(person);
+        updatedPersons.remove(key);
+        removedPersons.put(key, person);
+    }
+
+    void recordListingUpdated(Listing listing) {
+        requireNonNull(listing);
+        if (isReset) {
+            return;
+        }
+        String key = getListingKey(listing);
+        removedListings.remove(key);
+        updatedListings.put(key, listing);
+    }
+
+    void recordListingRemoved(Listing listing) {
+        requireNonNull(listing);
+        if (isReset) {
+            return;
+        }
+        String key = getListingKey(listing);
+        updatedListings.remove(key);
+        removedListings.put(key, listing);
+    }
+
+    void recordTagUpdated(Tag tag) {
+        requireNonNull(tag);
+        if (isReset) {
+            return;
+        }
+        removedTags.remove(tag.getTagName());
+        updatedTags.put(tag.getTagName(), tag);
+    }
+
+    void recordTagRemoved(Tag tag) {
+        requireNonNull(tag);
+        if (isReset) {
+            return;
+        }
+        updatedTags.remove(tag.getTagName());
+        removedTags.put(tag.getTagName(), tag);
+    }
+
+    //// Getters
+
+    /**
+     * Returns true if the whole address book was replaced, in which case no individual changes are recorded.
+     */
+    public boolean isReset() {
+        return isReset;
+    }
+
+    /**
+     * Returns true if nothing was changed.
+     */
+    public boolean isEmpty() {
+        return !isReset
+                && updatedPersons.isEmpty() && removedPersons.isEmpty()
+                && updatedListings.isEmpty() && removedListings.isEmpty()
+                && updatedTags.isEmpty() && removedTags.isEmpty();
+    }
+
+    /**
+     * Returns the number of persons, listings and tags that were changed.
+     */
+    public int size() {
+        return updatedPersons.size() + removedPersons.size()
+                + updatedListings.size() + removedListings.size()
+                + updatedTags.size() + removedTags.size();
+    }
+
+    public Collection<Person> getUpdatedPersons() {
+        return Collections.unmodifiableCollection(updatedPersons.values());
+    }
+
+    public Collection<Person> getRemovedPersons() {
+        return Collections.unmodifiableCollection(removedPersons.values());
+    }
+
+    public Collection<Listing> getUpdatedListings() {
+        return Collections.unmodifiableCollection(updatedListings.values());
+    }
+
+    public Collection<Listing> getRemovedListings() {
+        return Collections.unmodifiableCollection(removedListings.values());
+    }
+
+    public Collection<Tag> getUpdatedTags() {
+        return Collections.unmodifiableCollection(updatedTags.values());
+    }
+
+    public Collection<Tag> getRemovedTags() {
+        return Collections.unmodifiableCollection(removedTags.values());
+    }
+
+    //// Utility methods
+
+    private static String getPersonKey(Person person) {
+        return person.getPhone().value;
+    }
+
+    private static String getListingKey(Listing listing) {
+        return listing.getPostalCode() + "/" + Objects.toString(listing.getUnitNumber(), "")
+                + "/" + Objects.toString(listing.getHouseNumber(), "");
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("isReset", isReset)
+                .add("updatedPersons", updatedPersons.keySet())
+                .add("removedPersons", removedPersons.keySet())
+                .add("updatedListings", updatedListings.keySet())
+                .add("removedListings", removedListings.keySet())
+                .add("updatedTags", updatedTags.keySet())
+                .add("removedTags", removedTags.keySet())
+                .toString();
+    }
+}
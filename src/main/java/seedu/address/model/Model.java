@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -204,6 +205,27 @@ public interface Model {
 
     void addTags(Set<String> tags);
 
+    /**
+     * Returns the listings whose price ranges overlap {@code priceRange}, ordered by their lower bound prices.
+     */
+    List<Listing> getListingsWithPriceRangeOverlapping(PriceRange priceRange);
+
+    /**
+     * Returns the property preferences whose price ranges overlap {@code priceRange}, ordered by their lower bound
+     * prices.
+     */
+    List<PropertyPreference> getPreferencesWithPriceRangeOverlapping(PriceRange priceRange);
+
+    /**
+     * Returns the listings that have every tag in {@code tagNames}, in any letter case.
+     */
+    Set<Listing> getListingsWithAllTags(Set<String> tagNames);
+
+    /**
+     * Returns the property preferences that have every tag in {@code tagNames}, in any letter case.
+     */
+    Set<PropertyPreference> getPreferencesWithAllTags(Set<String> tagNames);
+
     /**
      * Deletes the given tag.
      * The tag must exist in the address book.
@@ -229,4 +251,22 @@ public interface Model {
      * Resets all lists to show all items.
      */
     void resetAllLists();
+
+    /**
+     * Resets all lists to show all items and clears their searches, except the lists that show live matches, which are
+     * kept as they are already current.
+     */
+    void resetAllListsExceptLiveMatches();
+
+    /**
+     * Shows the persons matching {@code listing} from the best match to the worst, and keeps them current as the
+     * address book changes until the person list is filtered, sorted or reset again.
+     */
+    void showListingMatches(Listing listing);
+
+    /**
+     * Shows the listings matching {@code preference} from the best match to the worst, and keeps them current as the
+     * address book changes until the listing list is filtered, sorted or reset again.
+     */
+    void showPreferenceMatches(PropertyPreference preference);
 }
@@ -5,7 +5,9 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -21,6 +23,9 @@ import seedu.address.model.listing.Listing;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PropertyPreference;
 import seedu.address.model.price.PriceRange;
+import seedu.address.model.search.ListingMatchSubscription;
+import seedu.address.model.search.MatchSubscription;
+import seedu.address.model.search.PreferenceMatchSubscription;
 import seedu.address.model.search.SearchContext;
 import seedu.address.model.search.SearchType;
 import seedu.address.model.tag.Tag;
@@ -47,6 +52,10 @@ public class ModelManager implements Model {
     // Tag map and observable list
     private final ObservableMap<String, Tag> tagMap;
 
+    // Live matches shown in the person or listing list, if any
+    private MatchSubscription<Person> livePersonMatches;
+    private MatchSubscription<Listing> liveListingMatches;
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -160,6 +169,8 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        livePersonMatches = null;
+        liveListingMatches = null;
     }
 
     @Override
@@ -177,17 +188,20 @@ public class ModelManager implements Model {
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        forEachLiveMatches(matches -> matches.onPersonAdded(person));
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
         addressBook.setPerson(target, editedPerson);
+        forEachLiveMatches(matches -> matches.onPersonSet(target, editedPerson));
     }
 
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
+        forEachLiveMatches(matches -> matches.onPersonRemoved(target));
     }
 
     // Listing-related operations
@@ -201,17 +215,20 @@ public class ModelManager implements Model {
     public void addListing(Listing listing) {
         requireNonNull(listing);
         addressBook.addListing(listing);
+        forEachLiveMatches(matches -> matches.onListingAdded(listing));
     }
 
     @Override
     public void setListing(Listing listing, Listing editedListing) {
         requireNonNull(listing);
         addressBook.setListing(listing, editedListing);
+        forEachLiveMatches(matches -> matches.onListingSet(listing, editedListing));
     }
 
     @Override
     public void deleteListing(Listing target) {
         addressBook.removeListing(target);
+        forEachLiveMatches(matches -> matches.onListingRemoved(target));
     }
 
     // Tag-related operations
@@ -243,7 +260,31 @@ public class ModelManager implements Model {
     @Override
     public Tag getTag(String tagName) {
         requireNonNull(tagName);
-        return tagMap.get(tagName.toUpperCase());
+        return addressBook.getTag(tagName);
+    }
+
+    @Override
+    public List<Listing> getListingsWithPriceRangeOverlapping(PriceRange priceRange) {
+        requireNonNull(priceRange);
+        return addressBook.getListingsWithPriceRangeOverlapping(priceRange);
+    }
+
+    @Override
+    public List<PropertyPreference> getPreferencesWithPriceRangeOverlapping(PriceRange priceRange) {
+        requireNonNull(priceRange);
+        return addressBook.getPreferencesWithPriceRangeOverlapping(priceRange);
+    }
+
+    @Override
+    public Set<Listing> getListingsWithAllTags(Set<String> tagNames) {
+        requireNonNull(tagNames);
+        return addressBook.getListingsWithAllTags(tagNames);
+    }
+
+    @Override
+    public Set<PropertyPreference> getPreferencesWithAllTags(Set<String> tagNames) {
+        requireNonNull(tagNames);
+        return addressBook.getPreferencesWithAllTags(tagNames);
     }
 
     @Override
@@ -300,11 +341,84 @@ public class ModelManager implements Model {
         resetAllFilters();
     }
 
+    @Override
+    public void resetAllListsExceptLiveMatches() {
+        if (livePersonMatches == null && liveListingMatches == null) {
+            resetAllLists();
+            return;
+        }
+
+        if (livePersonMatches == null) {
+            resetPersonList();
+            resetSearch(SearchType.PERSON);
+            searchContext.setTopPersonMatches(null);
+        }
+        if (liveListingMatches == null) {
+            resetListingList();
+            resetSearch(SearchType.LISTING);
+            searchContext.setTopListingMatches(null);
+        }
+        resetTagList();
+    }
+
+    /**
+     * Clears the search if it is of the given type, so that the search of a live list is kept.
+     */
+    private void resetSearch(SearchType searchType) {
+        if (searchContext.getSearchType() == searchType) {
+            searchContext.clear();
+        }
+    }
+
+    @Override
+    public void showListingMatches(Listing listing) {
+        requireNonNull(listing);
+        MatchSubscription<Person> matches = new ListingMatchSubscription(this, listing);
+        matches.showChanges(person -> {});
+        filteredPersons.setPredicate(matches.getFilter());
+        sortedFilteredPersons.setComparator(matches.getComparator());
+        livePersonMatches = matches;
+    }
+
+    @Override
+    public void showPreferenceMatches(PropertyPreference preference) {
+        requireNonNull(preference);
+        MatchSubscription<Listing> matches = new PreferenceMatchSubscription(this, preference);
+        matches.showChanges(listing -> {});
+        filteredListings.setPredicate(matches.getFilter());
+        sortedFilteredListings.setComparator(matches.getComparator());
+        liveListingMatches = matches;
+    }
+
+    /**
+     * Tells the live matches about a change to the address book, then has the shown lists test and place each row
+     * whose match changed again. The predicate and comparator of the lists stay the same, so a change only tests the
+     * changed rows and places each with a binary search, instead of filtering and sorting the whole list again.
+     */
+    private void forEachLiveMatches(Consumer<MatchSubscription<?>> change) {
+        if (livePersonMatches != null) {
+            change.accept(livePersonMatches);
+            livePersonMatches.showChanges(addressBook::refreshPerson);
+            updateSearchTarget(livePersonMatches);
+        }
+        if (liveListingMatches != null) {
+            change.accept(liveListingMatches);
+            liveListingMatches.showChanges(addressBook::refreshListing);
+            updateSearchTarget(liveListingMatches);
+        }
+    }
+
+    private void updateSearchTarget(MatchSubscription<?> matches) {
+        searchContext.setActiveSearchTags(matches.getTargetTags());
+        searchContext.setActivePriceRange(matches.getTargetPriceRange());
+    }
+
     //=========== List Update Operations ======================================================
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        livePersonMatches = null;
         filteredPersons.setPredicate(predicate.equals(filteredPersons.getPredicate())
                 ? PREDICATE_SHOW_ALL_PERSONS : predicate);
     }
@@ -312,6 +426,7 @@ public class ModelManager implements Model {
     @Override
     public void updateSortedFilteredPersonList(Comparator<Person> comparator) {
         requireNonNull(comparator);
+        livePersonMatches = null;
         sortedFilteredPersons.setComparator(comparator.equals(sortedFilteredPersons.getComparator())
                 ? COMPARATOR_SHOW_ALL_PERSONS : comparator);
     }
@@ -319,6 +434,7 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredListingList(Predicate<Listing> predicate) {
         requireNonNull(predicate);
+        liveListingMatches = null;
         filteredListings.setPredicate(predicate.equals(filteredListings.getPredicate())
                 ? PREDICATE_SHOW_ALL_LISTINGS : predicate);
     }
@@ -326,6 +442,7 @@ public class ModelManager implements Model {
     @Override
     public void updateSortedFilteredListingList(Comparator<Listing> comparator) {
         requireNonNull(comparator);
+        liveListingMatches = null;
         sortedFilteredListings.setComparator(comparator.equals(sortedFilteredListings.getComparator())
                 ? COMPARATOR_SHOW_ALL_LISTINGS : comparator);
     }
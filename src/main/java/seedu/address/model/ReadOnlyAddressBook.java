@@ -29,4 +29,20 @@ public interface ReadOnlyAddressBook {
      */
     ObservableMap<String, Tag> getTagMap();
 
+    /**
+     * Returns the persons, listings and tags changed since this method was last called.
+     * Implementations that do not record changes report every call as a reset of the whole address book.
+     */
+    default AddressBookChanges pollChanges() {
+        return AddressBookChanges.ofReset();
+    }
+
+    /**
+     * Returns true if anything was changed since {@link #pollChanges()} was last called, without polling the changes.
+     * Implementations that do not record changes always report changes.
+     */
+    default boolean hasChanges() {
+        return true;
+    }
+
 }
@@ -3,6 +3,8 @@ package seedu.address.model.listing;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a {@code Listing}'s house number in the real estate system.
  * Guarantees: immutable; is valid as declared in {@link #isValidHouseNumber(String)}
@@ -14,6 +16,7 @@ public class HouseNumber {
                     + "consisting of only letters and numbers. The last character cannot be 'I' or 'O'.";
 
     public static final String VALIDATION_REGEX = "^[a-zA-Z0-9]{1,3}$";
+    private static final int MAX_LENGTH = 3;
 
     public final String houseNumber;
 
@@ -32,8 +35,11 @@ public class HouseNumber {
      * Returns true if a given string is a valid house number.
      */
     public static boolean isValidHouseNumber(String test) {
-        boolean isLastCharacterValid = !(test.toUpperCase().endsWith("I") || test.toUpperCase().endsWith("O"));
-        return test.matches(VALIDATION_REGEX) && isLastCharacterValid;
+        if (!ValidationUtil.isAsciiAlphanumeric(test, 1, MAX_LENGTH)) {
+            return false;
+        }
+        char lastCharacter = Character.toUpperCase(test.charAt(test.length() - 1));
+        return lastCharacter != 'I' && lastCharacter != 'O';
     }
 
     @Override
@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.Messages.MESSAGE_HOUSE_OR_UNIT_NUMBER_REQUIRED;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -16,6 +15,7 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
 import seedu.address.model.price.PriceRange;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.IdentityOrderedSet;
 
 /**
  * Represents a listing in the real estate system.
@@ -24,6 +24,9 @@ import seedu.address.model.tag.Tag;
  */
 public class Listing {
 
+    /** Separates the fields of a sort key, ordering before every character that a field can contain. */
+    private static final char SORT_KEY_SEPARATOR = '\0';
+
     // Identity fields
     private final PostalCode postalCode;
     private final UnitNumber unitNumber;
@@ -35,11 +38,15 @@ public class Listing {
 
     // Associations
     private final Set<Tag> tags = new HashSet<>();
-    private final List<Person> owners = new ArrayList<>();
+    private final IdentityOrderedSet<Person> owners = new IdentityOrderedSet<>();
 
     // Status field
     private boolean isAvailable;
 
+    // Derived from the immutable fields once, as listings are sorted and hashed far more often than they are created
+    private final String sortKey;
+    private final int hash;
+
     /**
      * Constructs a {@code Listing}.
      * Every field except for {@code HouseNumber} and {@code PropertyName} must be present and not null.
@@ -62,6 +69,8 @@ public class Listing {
         this.tags.addAll(tags);
         this.owners.addAll(owners);
         this.isAvailable = isAvailable;
+        this.sortKey = computeSortKey(postalCode, this.unitNumber, this.houseNumber);
+        this.hash = Objects.hash(postalCode, this.unitNumber, this.houseNumber, priceRange, this.propertyName);
     }
 
     /**
@@ -86,6 +95,8 @@ public class Listing {
         this.tags.addAll(tags);
         this.owners.addAll(owners);
         this.isAvailable = isAvailable;
+        this.sortKey = computeSortKey(postalCode, this.unitNumber, this.houseNumber);
+        this.hash = Objects.hash(postalCode, this.unitNumber, this.houseNumber, priceRange, this.propertyName);
     }
 
     /**
@@ -111,6 +122,8 @@ public class Listing {
         this.tags.addAll(tags);
         this.owners.addAll(owners);
         this.isAvailable = isAvailable;
+        this.sortKey = computeSortKey(postalCode, this.unitNumber, this.houseNumber);
+        this.hash = Objects.hash(postalCode, this.unitNumber, this.houseNumber, priceRange, this.propertyName);
     }
 
     /**
@@ -137,6 +150,8 @@ public class Listing {
         this.tags.addAll(tags);
         this.owners.addAll(owners);
         this.isAvailable = isAvailable;
+        this.sortKey = computeSortKey(postalCode, this.unitNumber, this.houseNumber);
+        this.hash = Objects.hash(postalCode, this.unitNumber, this.houseNumber, priceRange, this.propertyName);
     }
 
     /**
@@ -175,6 +190,16 @@ public class Listing {
         return null;
     }
 
+    /**
+     * Returns a key that orders listings by postal code, then by unit number with listings without one first, and
+     * then by house number, when compared as strings.
+     */
+    private static String computeSortKey(PostalCode postalCode, UnitNumber unitNumber, HouseNumber houseNumber) {
+        return postalCode.postalCode
+                + SORT_KEY_SEPARATOR + (unitNumber == null ? "" : unitNumber.unitNumber)
+                + SORT_KEY_SEPARATOR + (houseNumber == null ? "" : houseNumber.houseNumber);
+    }
+
     //// Getters
 
     public PostalCode getPostalCode() {
@@ -197,6 +222,14 @@ public class Listing {
         return propertyName;
     }
 
+    /**
+     * Returns a key that orders listings by postal code, then by unit number and then by house number when compared
+     * as strings.
+     */
+    public String getSortKey() {
+        return sortKey;
+    }
+
     public boolean getAvailability() {
         return isAvailable;
     }
@@ -222,7 +255,7 @@ public class Listing {
      * if modification is attempted.
      */
     public List<Person> getOwners() {
-        return Collections.unmodifiableList(owners);
+        return owners.asUnmodifiableList();
     }
 
     //// Setters for associations
@@ -315,7 +348,7 @@ public class Listing {
 
     @Override
     public int hashCode() {
-        return Objects.hash(postalCode, unitNumber, houseNumber, priceRange, propertyName);
+        return hash;
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.listing;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a {@code Listing}'s postal code in the real estate system.
  * Guarantees: immutable; is valid as declared in {@link #isValidPostalCode(String)}
@@ -12,6 +14,7 @@ public class PostalCode {
             "Postal Code must be exactly 6 digits, where each digit must be between 0 and 9";
 
     public static final String VALIDATION_REGEX = "^\\d{6}$";
+    private static final int POSTAL_CODE_LENGTH = 6;
 
     public final String postalCode;
 
@@ -30,7 +33,7 @@ public class PostalCode {
      * Returns true if a given string is a valid postal code.
      */
     public static boolean isValidPostalCode(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAsciiDigits(test, POSTAL_CODE_LENGTH, POSTAL_CODE_LENGTH);
     }
 
     @Override
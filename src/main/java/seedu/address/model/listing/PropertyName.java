@@ -3,6 +3,10 @@ package seedu.address.model.listing;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a {@code Listing}'s property name in the real estate system.
  * Guarantees: immutable; is valid as declared in {@link #isValidPropertyName(String)}
@@ -13,6 +17,7 @@ public class PropertyName {
                     + "and can only contain letters, numbers, apostrophes, periods, hyphens, and spaces.";
 
     public static final String VALIDATION_REGEX = "^[a-zA-Z0-9'.\\- ]{2,100}$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String propertyName;
 
@@ -31,7 +36,7 @@ public class PropertyName {
      * Returns true if a given string is a valid property name.
      */
     public static boolean isValidPropertyName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.matches(VALIDATION_PATTERN, test);
     }
 
     @Override
@@ -3,13 +3,19 @@ package seedu.address.model.listing;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.listing.exceptions.DuplicateListingException;
 import seedu.address.model.listing.exceptions.ListingNotFoundException;
+import seedu.address.model.util.IdentityPositionIndex;
 
 /**
  * Represents a list of listing that enforces uniqueness between its elements and does not allow nulls.
@@ -17,6 +23,9 @@ import seedu.address.model.listing.exceptions.ListingNotFoundException;
  * updating of listings uses Listing#isSameListing(Listing) for equality so as to ensure that the listing being added or
  * updated is unique in terms of identity in the UniqueListingList. However, the removal of a listing uses
  * Listing#equals(Object) so as to ensure that the listing with exactly the same fields will be removed.
+ * The listings are also indexed by their identity and by their postal code, so that checking for a listing and
+ * finding the listings at a postal code do not have to search the whole list, and by their positions in the list, so
+ * that replacing or removing a listing does not have to compare it with every listing.
  * Supports a minimal set of list operations.
  *
  * @see Listing#isSameListing(Listing)
@@ -26,6 +35,9 @@ public class UniqueListingList implements Iterable<Listing> {
     private final ObservableList<Listing> internalList = FXCollections.observableArrayList();
     private final ObservableList<Listing> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Identity, Listing> listingsByIdentity = new HashMap<>();
+    private final Map<PostalCode, List<Listing>> listingsByPostalCode = new HashMap<>();
+    private final IdentityPositionIndex<Listing> positions = new IdentityPositionIndex<>(internalList);
 
     /**
      * Checks if the list contains an equivalent listing as the given argument.
@@ -35,7 +47,18 @@ public class UniqueListingList implements Iterable<Listing> {
      */
     public boolean contains(Listing toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameListing);
+        return listingsByIdentity.containsKey(new Identity(toCheck));
+    }
+
+    /**
+     * Returns the listings at {@code postalCode}, in the order they were added.
+     *
+     * @param postalCode The postal code of the listings.
+     * @return the unmodifiable list of listings at the postal code, which is empty if there are none.
+     */
+    public List<Listing> getListingsWithPostalCode(PostalCode postalCode) {
+        requireNonNull(postalCode);
+        return Collections.unmodifiableList(listingsByPostalCode.getOrDefault(postalCode, List.of()));
     }
 
     /**
@@ -51,6 +74,8 @@ public class UniqueListingList implements Iterable<Listing> {
             throw new DuplicateListingException();
         }
         internalList.add(toAdd);
+        positions.added(toAdd);
+        addToIndex(toAdd);
     }
 
     /**
@@ -65,8 +90,8 @@ public class UniqueListingList implements Iterable<Listing> {
     public void setListing(Listing target, Listing editedListing) {
         requireAllNonNull(target, editedListing);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Listing existingListing = listingsByIdentity.get(new Identity(target));
+        if (existingListing == null || !existingListing.equals(target)) {
             throw new ListingNotFoundException();
         }
 
@@ -74,7 +99,11 @@ public class UniqueListingList implements Iterable<Listing> {
             throw new DuplicateListingException();
         }
 
+        int index = positions.indexOf(existingListing);
         internalList.set(index, editedListing);
+        positions.replaced(index, existingListing, editedListing);
+        removeFromIndex(existingListing);
+        addToIndex(editedListing);
     }
 
     /**
@@ -86,9 +115,30 @@ public class UniqueListingList implements Iterable<Listing> {
      */
     public void remove(Listing toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Listing existingListing = listingsByIdentity.get(new Identity(toRemove));
+        if (existingListing == null || !existingListing.equals(toRemove)) {
             throw new ListingNotFoundException();
         }
+
+        int index = positions.indexOf(existingListing);
+        internalList.remove(index);
+        positions.removed(index, existingListing);
+        removeFromIndex(existingListing);
+    }
+
+    /**
+     * Tells the observers of the list that {@code listing} changed without it being replaced, so that views of the
+     * list, such as filtered and sorted lists, test and place it again. Does nothing if {@code listing} is not in the
+     * list.
+     *
+     * @param listing The listing that changed.
+     */
+    public void refresh(Listing listing) {
+        requireNonNull(listing);
+        int index = positions.indexOf(listing);
+        if (index >= 0) {
+            internalList.set(index, listing);
+        }
     }
 
     /**
@@ -99,11 +149,32 @@ public class UniqueListingList implements Iterable<Listing> {
      */
     public void setListings(List<Listing> listings) {
         requireAllNonNull(listings);
-        if (!listingsAreUnique(listings)) {
-            throw new DuplicateListingException();
+        Map<Identity, Listing> replacementListingsByIdentity = new HashMap<>();
+        for (Listing listing : listings) {
+            if (replacementListingsByIdentity.put(new Identity(listing), listing) != null) {
+                throw new DuplicateListingException();
+            }
         }
 
         internalList.setAll(listings);
+        positions.reset();
+        listingsByIdentity.clear();
+        listingsByPostalCode.clear();
+        listings.forEach(this::addToIndex);
+    }
+
+    private void addToIndex(Listing listing) {
+        listingsByIdentity.put(new Identity(listing), listing);
+        listingsByPostalCode.computeIfAbsent(listing.getPostalCode(), postalCode -> new ArrayList<>()).add(listing);
+    }
+
+    private void removeFromIndex(Listing listing) {
+        listingsByIdentity.remove(new Identity(listing));
+        List<Listing> listingsWithPostalCode = listingsByPostalCode.get(listing.getPostalCode());
+        listingsWithPostalCode.removeIf(indexedListing -> indexedListing == listing);
+        if (listingsWithPostalCode.isEmpty()) {
+            listingsByPostalCode.remove(listing.getPostalCode());
+        }
     }
 
     /**
@@ -146,18 +217,38 @@ public class UniqueListingList implements Iterable<Listing> {
     }
 
     /**
-     * Checks if {@code listings} contains only unique listings.
-     *
-     * @return true if {@code listings} contains only unique listings. false otherwise.
+     * The fields that identify a listing, as compared by {@link Listing#isSameListing(Listing)}.
      */
-    private boolean listingsAreUnique(List<Listing> listings) {
-        for (int i = 0; i < listings.size() - 1; i++) {
-            for (int j = i + 1; j < listings.size(); j++) {
-                if (listings.get(i).isSameListing(listings.get(j))) {
-                    return false;
-                }
+    private static class Identity {
+        private final PostalCode postalCode;
+        private final UnitNumber unitNumber;
+        private final HouseNumber houseNumber;
+
+        Identity(Listing listing) {
+            postalCode = listing.getPostalCode();
+            unitNumber = listing.getUnitNumber();
+            houseNumber = listing.getHouseNumber();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof Identity)) {
+                return false;
             }
+
+            Identity otherIdentity = (Identity) other;
+            return postalCode.equals(otherIdentity.postalCode)
+                    && Objects.equals(unitNumber, otherIdentity.unitNumber)
+                    && Objects.equals(houseNumber, otherIdentity.houseNumber);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(postalCode, unitNumber, houseNumber);
         }
-        return true;
     }
 }
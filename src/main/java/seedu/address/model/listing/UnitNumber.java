@@ -3,6 +3,10 @@ package seedu.address.model.listing;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Listing's unit number in the real estate system.
  * Guarantees: immutable; is valid as declared in {@link #isValidUnitNumber(String)}
@@ -18,6 +22,7 @@ public class UnitNumber {
                     + "5. A house number cannot be specified with a unit number.";
 
     public static final String VALIDATION_REGEX = "^(B|R)?[0-9][0-9]-[0-9][0-9]{1,4}([A-HJ-NP-Z])?$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String unitNumber;
 
@@ -36,7 +41,7 @@ public class UnitNumber {
      * Returns true if a given string is a valid unit number.
      */
     public static boolean isValidUnitNumber(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.matches(VALIDATION_PATTERN, test);
     }
 
     @Override
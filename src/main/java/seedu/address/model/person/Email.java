@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a {@code Person}'s email in the real estate system.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -30,6 +34,7 @@ public class Email {
     private static final String DOMAIN_LAST_PART_REGEX = "(" + DOMAIN_PART_REGEX + "){2,}$"; // At least two chars
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)*" + DOMAIN_LAST_PART_REGEX;
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -48,15 +53,12 @@ public class Email {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        String[] parts = test.split("@");
-        if (!test.matches(VALIDATION_REGEX)) {
-            return false;
-        }
-        String[] domainParts = parts[1].split("[.-]");
-        if (domainParts[domainParts.length - 1].length() < 2) {
+        if (!ValidationUtil.matches(VALIDATION_PATTERN, test)) {
             return false;
         }
-        return true;
+        // The last domain label follows the last period or hyphen, as neither can appear after the '@' otherwise.
+        int lastLabelStart = Math.max(test.lastIndexOf('.'), test.lastIndexOf('-')) + 1;
+        return test.length() - Math.max(lastLabelStart, test.indexOf('@') + 1) >= 2;
     }
 
     @Override
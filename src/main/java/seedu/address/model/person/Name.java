@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a {@code Person}'s name in the real estate system.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -14,6 +18,7 @@ public class Name {
                     + " periods, and hyphens. The first character must be a letter, and the name cannot be blank.";
 
     public static final String VALIDATION_REGEX = "^[A-Za-z][A-Za-z' .-]{1,59}$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String fullName;
 
@@ -32,7 +37,7 @@ public class Name {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.matches(VALIDATION_PATTERN, test);
     }
 
 
@@ -3,13 +3,12 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.listing.Listing;
+import seedu.address.model.util.IdentityOrderedSet;
 
 /**
  * Represents a person in the real estate system.
@@ -17,6 +16,9 @@ import seedu.address.model.listing.Listing;
  */
 public class Person {
 
+    /** Separates the fields of a sort key, ordering before every character that a field can contain. */
+    private static final char SORT_KEY_SEPARATOR = '\0';
+
     // Identity fields
     private final Phone phone;
 
@@ -25,8 +27,12 @@ public class Person {
     private final Email email;
 
     // Associations
-    private final List<PropertyPreference> propertyPreferences = new ArrayList<>();
-    private final List<Listing> listings = new ArrayList<>();
+    private final IdentityOrderedSet<PropertyPreference> propertyPreferences = new IdentityOrderedSet<>();
+    private final IdentityOrderedSet<Listing> listings = new IdentityOrderedSet<>();
+
+    // Derived from the immutable fields once, as persons are sorted and hashed far more often than they are created
+    private final String sortKey;
+    private final int hash;
 
     /**
      * Constructs an {@code Person}.
@@ -44,6 +50,8 @@ public class Person {
         this.name = name;
         this.phone = phone;
         this.email = email;
+        this.sortKey = name.fullName + SORT_KEY_SEPARATOR + phone.value;
+        this.hash = Objects.hash(name, phone, email);
         this.propertyPreferences.addAll(propertyPreferences);
         this.listings.addAll(listings);
     }
@@ -61,12 +69,19 @@ public class Person {
         return email;
     }
 
+    /**
+     * Returns a key that orders persons by name and then by phone number when compared as strings.
+     */
+    public String getSortKey() {
+        return sortKey;
+    }
+
     /**
      * Returns an immutable property preferences list which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
     public List<PropertyPreference> getPropertyPreferences() {
-        return Collections.unmodifiableList(propertyPreferences);
+        return propertyPreferences.asUnmodifiableList();
     }
 
     /**
@@ -74,7 +89,7 @@ public class Person {
      * if modification is attempted.
      */
     public List<Listing> getListings() {
-        return Collections.unmodifiableList(listings);
+        return listings.asUnmodifiableList();
     }
 
     //// Setters for associations
@@ -167,8 +182,7 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email);
+        return hash;
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a {@code Person}'s phone number in the real estate system.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -13,6 +15,8 @@ public class Phone {
             "Phone numbers are between 3 to 15 digits. It can also have an optional + "
                     + "before 1st digit.";
     public static final String VALIDATION_REGEX = "^\\+?[0-9]{3,15}$";
+    private static final int MIN_DIGITS = 3;
+    private static final int MAX_DIGITS = 15;
     public final String value;
 
     /**
@@ -30,7 +34,8 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int firstDigit = test.startsWith("+") ? 1 : 0;
+        return ValidationUtil.isAsciiDigits(test, firstDigit, MIN_DIGITS, MAX_DIGITS);
     }
 
     @Override
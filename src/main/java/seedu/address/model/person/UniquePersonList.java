@@ -3,13 +3,16 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.IdentityPositionIndex;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,6 +21,10 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Since a person's identity is their phone number, the persons are also indexed by phone number, so that checking
+ * for a person does not have to search the whole list. Their positions in the list are indexed as well, so that
+ * replacing or removing a person does not have to compare them with every person in the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +34,15 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Phone, Person> personsByPhone = new HashMap<>();
+    private final IdentityPositionIndex<Person> positions = new IdentityPositionIndex<>(internalList);
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByPhone.containsKey(toCheck.getPhone());
     }
 
     /**
@@ -46,6 +55,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        positions.added(toAdd);
+        personsByPhone.put(toAdd.getPhone(), toAdd);
     }
 
     /**
@@ -56,8 +67,8 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Person existingPerson = personsByPhone.get(target.getPhone());
+        if (existingPerson == null || !existingPerson.equals(target)) {
             throw new PersonNotFoundException();
         }
 
@@ -65,7 +76,11 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        int index = positions.indexOf(existingPerson);
         internalList.set(index, editedPerson);
+        positions.replaced(index, existingPerson, editedPerson);
+        personsByPhone.remove(target.getPhone());
+        personsByPhone.put(editedPerson.getPhone(), editedPerson);
     }
 
     /**
@@ -74,14 +89,36 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Person existingPerson = personsByPhone.get(toRemove.getPhone());
+        if (existingPerson == null || !existingPerson.equals(toRemove)) {
             throw new PersonNotFoundException();
         }
+
+        int index = positions.indexOf(existingPerson);
+        internalList.remove(index);
+        positions.removed(index, existingPerson);
+        personsByPhone.remove(toRemove.getPhone());
+    }
+
+    /**
+     * Tells the observers of the list that {@code person} changed without it being replaced, so that views of the
+     * list, such as filtered and sorted lists, test and place it again. Does nothing if {@code person} is not in the
+     * list.
+     */
+    public void refresh(Person person) {
+        requireNonNull(person);
+        int index = positions.indexOf(person);
+        if (index >= 0) {
+            internalList.set(index, person);
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        positions.reset();
+        personsByPhone.clear();
+        personsByPhone.putAll(replacement.personsByPhone);
     }
 
     /**
@@ -90,11 +127,17 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<Phone, Person> replacementPersonsByPhone = new HashMap<>();
+        for (Person person : persons) {
+            if (replacementPersonsByPhone.put(person.getPhone(), person) != null) {
+                throw new DuplicatePersonException();
+            }
         }
 
         internalList.setAll(persons);
+        positions.reset();
+        personsByPhone.clear();
+        personsByPhone.putAll(replacementPersonsByPhone);
     }
 
     /**
@@ -133,18 +176,4 @@ public class UniquePersonList implements Iterable<Person> {
     public String toString() {
         return internalList.toString();
     }
-
-    /**
-     * Returns true if {@code persons} contains only unique persons.
-     */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
@@ -4,11 +4,15 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.ValidationUtil;
 
 /**
  * Represents a Price in the real estate system.
  * Guarantees: immutable; is valid as declared in {@link #isValidPrice(String)}
+ * The price is kept as a whole number of cents, which always fits in a long as a valid price has at most 18 digits,
+ * so that prices are compared without creating any objects.
  */
 public class Price {
     public static final String MESSAGE_CONSTRAINTS =
@@ -17,8 +21,11 @@ public class Price {
                     + "If no value is given, the lower bound price will be unbounded.";
 
     public static final String VALIDATION_REGEX = "^[0-9]{1,16}(?:\\.\\d{1,2})?$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    private static final int CENTS_PER_DOLLAR = 100;
 
-    public final BigDecimal price;
+    public final long cents;
 
     /**
      * Constructs a {@code Price}.
@@ -28,7 +35,24 @@ public class Price {
     public Price(String price) {
         requireNonNull(price);
         checkArgument(isValidPrice(price), MESSAGE_CONSTRAINTS);
-        this.price = new BigDecimal(price);
+        this.cents = parseCents(price);
+    }
+
+    /**
+     * Converts a valid price to a whole number of cents.
+     */
+    private static long parseCents(String price) {
+        int decimalPoint = price.indexOf('.');
+        String dollars = decimalPoint < 0 ? price : price.substring(0, decimalPoint);
+        String fraction = decimalPoint < 0 ? "" : price.substring(decimalPoint + 1);
+
+        long cents = Long.parseLong(dollars) * CENTS_PER_DOLLAR;
+        if (fraction.length() == 1) {
+            cents += (fraction.charAt(0) - '0') * 10;
+        } else if (fraction.length() == 2) {
+            cents += Integer.parseInt(fraction);
+        }
+        return cents;
     }
 
     /**
@@ -39,7 +63,7 @@ public class Price {
             return true;
         }
 
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.matches(VALIDATION_PATTERN, test);
     }
 
     /**
@@ -51,7 +75,20 @@ public class Price {
     public int compare(Price otherPrice) {
         requireNonNull(otherPrice);
 
-        return this.price.compareTo(otherPrice.price);
+        return Long.compare(this.cents, otherPrice.cents);
+    }
+
+    /**
+     * Returns the value of this price in dollars, with no more decimal places than needed.
+     */
+    public BigDecimal toBigDecimal() {
+        if (cents % CENTS_PER_DOLLAR == 0) {
+            return BigDecimal.valueOf(cents / CENTS_PER_DOLLAR);
+        } else if (cents % 10 == 0) {
+            return BigDecimal.valueOf(cents / 10, 1);
+        } else {
+            return BigDecimal.valueOf(cents, 2);
+        }
     }
 
     @Override
@@ -66,17 +103,17 @@ public class Price {
         }
 
         Price otherPrice = (Price) other;
-        return this.price.equals(otherPrice.price);
+        return this.cents == otherPrice.cents;
     }
 
     @Override
     public int hashCode() {
-        return this.price.hashCode();
+        return Long.hashCode(cents);
     }
 
     @Override
     public String toString() {
-        return "$" + price.setScale(2, RoundingMode.HALF_DOWN).toPlainString();
+        return String.format("$%d.%02d", cents / CENTS_PER_DOLLAR, cents % CENTS_PER_DOLLAR);
     }
 
 }
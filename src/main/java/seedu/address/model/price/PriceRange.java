@@ -4,8 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Objects;
-
 /**
  * Represents a Price Range in the real estate system.
  * Guarantees: immutable; is valid as Price is valid.
@@ -13,6 +11,8 @@ import java.util.Objects;
  * If it is bounded on both sides, it must have a lowerBoundPrice and an upperBoundPrice.
  * If it is bounded on one side, it must have one null field.
  * If it is unbounded, it must have two null fields.
+ * The bounds are also kept in cents, with sentinel values for the unbounded sides, so that checking whether ranges
+ * overlap takes a couple of primitive comparisons.
  */
 public class PriceRange {
 
@@ -22,15 +22,25 @@ public class PriceRange {
     private static final String TO_STRING = " to ";
     private static final int EQUAL_TO = 0;
 
+    /** The lower bound in cents of a range with no lower bound, which is below every price. */
+    public static final long UNBOUNDED_LOWER_CENTS = Long.MIN_VALUE;
+    /** The upper bound in cents of a range with no upper bound, which is above every price. */
+    public static final long UNBOUNDED_UPPER_CENTS = Long.MAX_VALUE;
+
     public final Price lowerBoundPrice;
     public final Price upperBoundPrice;
 
+    private final long lowerBoundCents;
+    private final long upperBoundCents;
+
     /**
      * Constructs an unbounded {@code PriceRange}.
      */
     public PriceRange() {
         this.lowerBoundPrice = null;
         this.upperBoundPrice = null;
+        this.lowerBoundCents = UNBOUNDED_LOWER_CENTS;
+        this.upperBoundCents = UNBOUNDED_UPPER_CENTS;
     }
 
     /**
@@ -45,9 +55,13 @@ public class PriceRange {
         if (isUpperBound) {
             this.lowerBoundPrice = null;
             this.upperBoundPrice = singleBoundPrice;
+            this.lowerBoundCents = UNBOUNDED_LOWER_CENTS;
+            this.upperBoundCents = singleBoundPrice.cents;
         } else {
             this.lowerBoundPrice = singleBoundPrice;
             this.upperBoundPrice = null;
+            this.lowerBoundCents = singleBoundPrice.cents;
+            this.upperBoundCents = UNBOUNDED_UPPER_CENTS;
         }
     }
 
@@ -62,6 +76,22 @@ public class PriceRange {
         checkArgument(lowerBoundPrice.compare(upperBoundPrice) <= EQUAL_TO);
         this.lowerBoundPrice = lowerBoundPrice;
         this.upperBoundPrice = upperBoundPrice;
+        this.lowerBoundCents = lowerBoundPrice.cents;
+        this.upperBoundCents = upperBoundPrice.cents;
+    }
+
+    /**
+     * Returns the lower bound in cents, or {@link #UNBOUNDED_LOWER_CENTS} if there is no lower bound.
+     */
+    public long getLowerBoundCents() {
+        return lowerBoundCents;
+    }
+
+    /**
+     * Returns the upper bound in cents, or {@link #UNBOUNDED_UPPER_CENTS} if there is no upper bound.
+     */
+    public long getUpperBoundCents() {
+        return upperBoundCents;
     }
 
     /**
@@ -73,24 +103,7 @@ public class PriceRange {
     public boolean isPriceWithinRange(Price otherPrice) {
         requireNonNull(otherPrice);
 
-        // If range is unbounded
-        if (this.lowerBoundPrice == null && this.upperBoundPrice == null) {
-            return true;
-        }
-
-        // If range is only upper bounded
-        if (this.lowerBoundPrice == null) {
-            return otherPrice.compare(this.upperBoundPrice) <= EQUAL_TO;
-        }
-
-        // If range is only lower bounded
-        if (this.upperBoundPrice == null) {
-            return otherPrice.compare(this.lowerBoundPrice) >= EQUAL_TO;
-        }
-
-        // If range is bounded on both sides
-        return otherPrice.compare(this.lowerBoundPrice) >= EQUAL_TO
-            && otherPrice.compare(this.upperBoundPrice) <= EQUAL_TO;
+        return lowerBoundCents <= otherPrice.cents && otherPrice.cents <= upperBoundCents;
     }
 
     /**
@@ -102,20 +115,8 @@ public class PriceRange {
     public boolean doPriceRangeOverlap(PriceRange otherPriceRange) {
         requireNonNull(otherPriceRange);
 
-        boolean isOtherLowerBoundWithinRange = otherPriceRange.lowerBoundPrice == null
-                || this.isPriceWithinRange(otherPriceRange.lowerBoundPrice);
-
-        boolean isOtherUpperBoundWithinRange = otherPriceRange.upperBoundPrice == null
-                || this.isPriceWithinRange(otherPriceRange.upperBoundPrice);
-
-        boolean isThisLowerBoundWithinRange = this.lowerBoundPrice == null
-                || otherPriceRange.isPriceWithinRange(this.lowerBoundPrice);
-
-        boolean isThisUpperBoundWithinRange = this.upperBoundPrice == null
-                || otherPriceRange.isPriceWithinRange(this.upperBoundPrice);
-
-        return isOtherLowerBoundWithinRange || isOtherUpperBoundWithinRange
-                || (isThisLowerBoundWithinRange && isThisUpperBoundWithinRange);
+        return lowerBoundCents <= otherPriceRange.upperBoundCents
+                && otherPriceRange.lowerBoundCents <= upperBoundCents;
     }
 
     @Override
@@ -130,13 +131,13 @@ public class PriceRange {
         }
 
         PriceRange otherPriceRange = (PriceRange) other;
-        return Objects.equals(this.lowerBoundPrice, otherPriceRange.lowerBoundPrice)
-                && Objects.equals(this.upperBoundPrice, otherPriceRange.upperBoundPrice);
+        return lowerBoundCents == otherPriceRange.lowerBoundCents
+                && upperBoundCents == otherPriceRange.upperBoundCents;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(lowerBoundPrice, upperBoundPrice);
+        return 31 * Long.hashCode(lowerBoundCents) + Long.hashCode(upperBoundCents);
     }
 
     @Override
@@ -0,0 +1,205 @@
+package seedu.address.model.price;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index of items by their price ranges, which finds the items whose price ranges overlap a given price range
+ * without testing every item.
+ * <p>
+ * The ranges are kept in an interval tree: a binary search tree ordered by lower bound, in which every node also
+ * keeps the highest upper bound in its subtree, so that a search skips every subtree that cannot hold an overlapping
+ * range. Unbounded sides are ordered by the sentinel bounds of {@link PriceRange}, so half-open and unbounded ranges
+ * need no special handling. The tree is kept balanced as a treap, so adding and removing an item takes O(log n) time
+ * and finding the k overlapping items takes O(log n + k) time in the usual case.
+ *
+ * @param <T> the type of the items, which are compared by identity.
+ */
+public class PriceRangeIndex<T> {
+
+    private final Map<T, Node<T>> nodes = new IdentityHashMap<>();
+    private Node<T> root;
+    private long nextSequence;
+
+    /**
+     * Adds {@code item} with {@code priceRange} to the index, replacing its previous price range if it was already
+     * in the index.
+     */
+    public void add(T item, PriceRange priceRange) {
+        requireAllNonNull(item, priceRange);
+        remove(item);
+
+        Node<T> node = new Node<>(item, priceRange.getLowerBoundCents(), priceRange.getUpperBoundCents(),
+                nextSequence++);
+        Node<T>[] split = split(root, node.low, node.sequence);
+        root = merge(merge(split[0], node), split[1]);
+        nodes.put(item, node);
+    }
+
+    /**
+     * Removes {@code item} from the index.
+     *
+     * @return true if the index contained {@code item}.
+     */
+    public boolean remove(T item) {
+        requireNonNull(item);
+        Node<T> node = nodes.remove(item);
+        if (node == null) {
+            return false;
+        }
+
+        Node<T>[] lower = split(root, node.low, node.sequence);
+        Node<T>[] higher = split(lower[1], node.low, node.sequence + 1);
+        assert higher[0] == node : "The index is out of sync with its tree";
+        root = merge(lower[0], higher[1]);
+        return true;
+    }
+
+    public boolean contains(T item) {
+        return nodes.containsKey(item);
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Removes every item from the index.
+     */
+    public void clear() {
+        nodes.clear();
+        root = null;
+    }
+
+    /**
+     * Returns the items whose price ranges overlap {@code priceRange}, ordered by the lower bounds of their price
+     * ranges and then by the order they were added in.
+     */
+    public List<T> getOverlapping(PriceRange priceRange) {
+        requireNonNull(priceRange);
+        List<T> overlapping = new ArrayList<>();
+        collectOverlapping(root, priceRange.getLowerBoundCents(), priceRange.getUpperBoundCents(), overlapping);
+        return overlapping;
+    }
+
+    private static <T> void collectOverlapping(Node<T> node, long low, long high, List<T> overlapping) {
+        if (node == null || node.maxHigh < low) {
+            return;
+        }
+
+        collectOverlapping(node.left, low, high, overlapping);
+        if (node.low > high) {
+            // Every range to the right starts after this one, so it cannot overlap either.
+            return;
+        }
+        if (node.high >= low) {
+            overlapping.add(node.item);
+        }
+        collectOverlapping(node.right, low, high, overlapping);
+    }
+
+    /**
+     * Splits the tree at {@code node} into the nodes ordered before the key ({@code low}, {@code sequence}) and the
+     * nodes ordered at or after it.
+     */
+    private static <T> Node<T>[] split(Node<T> node, long low, long sequence) {
+        if (node == null) {
+            return newPair(null, null);
+        }
+
+        if (node.isBefore(low, sequence)) {
+            Node<T>[] split = split(node.right, low, sequence);
+            node.right = split[0];
+            node.update();
+            return newPair(node, split[1]);
+        } else {
+            Node<T>[] split = split(node.left, low, sequence);
+            node.left = split[1];
+            node.update();
+            return newPair(split[0], node);
+        }
+    }
+
+    /**
+     * Merges two trees, where every node of {@code before} is ordered before every node of {@code after}.
+     */
+    private static <T> Node<T> merge(Node<T> before, Node<T> after) {
+        if (before == null) {
+            return after;
+        }
+        if (after == null) {
+            return before;
+        }
+
+        if (before.priority > after.priority) {
+            before.right = merge(before.right, after);
+            before.update();
+            return before;
+        } else {
+            after.left = merge(before, after.left);
+            after.update();
+            return after;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T>[] newPair(Node<T> first, Node<T> second) {
+        return new Node[] {first, second};
+    }
+
+    /**
+     * A node of the tree, holding one item and its price range in cents.
+     */
+    private static class Node<T> {
+        private final T item;
+        private final long low;
+        private final long high;
+        private final long sequence;
+        private final long priority;
+        private long maxHigh;
+        private Node<T> left;
+        private Node<T> right;
+
+        Node(T item, long low, long high, long sequence) {
+            this.item = item;
+            this.low = low;
+            this.high = high;
+            this.sequence = sequence;
+            this.priority = scramble(sequence);
+            this.maxHigh = high;
+        }
+
+        /**
+         * Returns true if this node is ordered before the key ({@code otherLow}, {@code otherSequence}).
+         */
+        boolean isBefore(long otherLow, long otherSequence) {
+            return low < otherLow || (low == otherLow && sequence < otherSequence);
+        }
+
+        void update() {
+            maxHigh = high;
+            if (left != null) {
+                maxHigh = Math.max(maxHigh, left.maxHigh);
+            }
+            if (right != null) {
+                maxHigh = Math.max(maxHigh, right.maxHigh);
+            }
+        }
+
+        /**
+         * Spreads the bits of {@code sequence} into a random-looking priority, so that the tree stays balanced
+         * however the items are added, while the shape of the tree stays reproducible.
+         */
+        private static long scramble(long sequence) {
+            long z = sequence + 0x9E3779B97F4A7C15L;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package seedu.address.model.search;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.model.Model;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.IdentityOrderedSet;
+
+/**
+ * Matches many listings against every property preference at once, as {@code matchListing} would for each listing.
+ * A preference matches a listing if it shares a tag or has an overlapping price range with it, and is not a
+ * preference of one of the listing's owners.
+ * <p>
+ * The preferences of each listing are found through the price range index and the tags, so only preferences that
+ * match are scored, and the listings are split among the cores with fork-join. The listings are matched a chunk at a
+ * time as their matches are read, so only the matches of one chunk are kept at once however many listings there are.
+ * The model must not be changed while the listings are matched.
+ */
+public class AllPairsMatcher {
+
+    /** The number of listings below which a task matches its listings itself instead of splitting them further. */
+    static final int LISTINGS_PER_TASK = 32;
+
+    /** The number of listings matched at once, whose matches are kept until they are read. */
+    static final int LISTINGS_PER_CHUNK = 1024;
+
+    private final Model model;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates an {@code AllPairsMatcher} of the listings and preferences in {@code model}, which runs on the common
+     * fork-join pool.
+     */
+    public AllPairsMatcher(Model model) {
+        this(model, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates an {@code AllPairsMatcher} of the listings and preferences in {@code model}, which runs on
+     * {@code pool}.
+     */
+    public AllPairsMatcher(Model model, ForkJoinPool pool) {
+        requireAllNonNull(model, pool);
+        this.model = model;
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the preferences matching each of {@code listings}, in the order of {@code listings}. Each listing is
+     * matched only when the chunk of listings it is in is reached, and again each time the matches are iterated.
+     */
+    public Iterable<ListingMatches> matchAll(List<Listing> listings) {
+        requireAllNonNull(listings);
+        return () -> new ChunkedMatchIterator(listings);
+    }
+
+    /**
+     * Returns the preferences matching {@code listing}.
+     */
+    public ListingMatches match(Listing listing) {
+        requireAllNonNull(listing);
+        // Kept in the order they are found, so that preferences of equal scores are always reported in the same order.
+        IdentityOrderedSet<PropertyPreference> candidates = new IdentityOrderedSet<>();
+        candidates.addAll(model.getPreferencesWithPriceRangeOverlapping(listing.getPriceRange()));
+        for (Tag tag : listing.getTags()) {
+            candidates.addAll(tag.getPropertyPreferences());
+        }
+
+        for (Person owner : listing.getOwners()) {
+            for (PropertyPreference preference : owner.getPropertyPreferences()) {
+                candidates.remove(preference);
+            }
+        }
+
+        ListingMatchScorer scorer = new ListingMatchScorer(listing);
+        return new ListingMatches(listing, new MatchRanking<>(candidates.asUnmodifiableList(),
+                scorer::scorePreference));
+    }
+
+    /**
+     * Iterates over the matches of the listings, matching the next chunk of listings once the matches of the chunk
+     * before it are read.
+     */
+    private class ChunkedMatchIterator implements Iterator<ListingMatches> {
+        private final List<Listing> listings;
+        private ListingMatches[] chunk = new ListingMatches[0];
+        private int chunkStart;
+        private int next;
+
+        ChunkedMatchIterator(List<Listing> listings) {
+            this.listings = listings;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < listings.size();
+        }
+
+        @Override
+        public ListingMatches next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            if (next == chunkStart + chunk.length) {
+                int chunkEnd = Math.min(next + LISTINGS_PER_CHUNK, listings.size());
+                chunkStart = next;
+                chunk = new ListingMatches[chunkEnd - chunkStart];
+                pool.invoke(new MatchTask(listings.subList(chunkStart, chunkEnd), chunk, 0, chunk.length));
+            }
+
+            // Lets the matches be collected once they are read, before the rest of the chunk is.
+            ListingMatches matches = chunk[next - chunkStart];
+            chunk[next - chunkStart] = null;
+            next++;
+            return matches;
+        }
+    }
+
+    /**
+     * Matches the listings from {@code start} to {@code end}, splitting them in half among subtasks while there are
+     * many of them.
+     */
+    private class MatchTask extends RecursiveAction {
+        private final List<Listing> listings;
+        private final ListingMatches[] matches;
+        private final int start;
+        private final int end;
+
+        MatchTask(List<Listing> listings, ListingMatches[] matches, int start, int end) {
+            this.listings = listings;
+            this.matches = matches;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= LISTINGS_PER_TASK) {
+                for (int i = start; i < end; i++) {
+                    matches[i] = match(listings.get(i));
+                }
+                return;
+            }
+
+            int middle = (start + end) >>> 1;
+            invokeAll(new MatchTask(listings, matches, start, middle), new MatchTask(listings, matches, middle, end));
+        }
+    }
+}
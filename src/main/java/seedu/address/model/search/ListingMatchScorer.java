@@ -0,0 +1,48 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.PriceRange;
+
+/**
+ * Scores how well persons match one {@code Listing}, by the best match score of their property preferences.
+ */
+public class ListingMatchScorer implements MatchScorer<Person> {
+
+    private final PriceRange priceRange;
+    private final Set<String> tagNames;
+
+    /**
+     * Creates a {@code ListingMatchScorer} for the price range and tags {@code listing} has now.
+     */
+    public ListingMatchScorer(Listing listing) {
+        requireNonNull(listing);
+        this.priceRange = listing.getPriceRange();
+        this.tagNames = MatchEngine.getTagNames(listing.getTags());
+    }
+
+    @Override
+    public int score(Person person) {
+        requireNonNull(person);
+        int bestScore = MatchEngine.INITIAL_SCORE;
+
+        for (PropertyPreference preference : person.getPropertyPreferences()) {
+            bestScore = Math.max(bestScore, scorePreference(preference));
+        }
+
+        return bestScore;
+    }
+
+    /**
+     * Returns how well {@code preference} matches the listing.
+     */
+    public int scorePreference(PropertyPreference preference) {
+        requireNonNull(preference);
+        return MatchEngine.getMatchScore(priceRange, tagNames, preference.getPriceRange(), preference.getTags());
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.address.model.search;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.Model;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.IdentityOrderedSet;
+
+/**
+ * The persons matching a {@code Listing}, as {@code MatchListingCommand} matches them, kept current as the address
+ * book changes. The owners of the listing never match it.
+ * <p>
+ * A person is rescored when they change. When the listing changes, only the persons with a preference that has one of
+ * the tags added to or removed from the listing, and the persons who became or stopped being its owners, are
+ * rescored, as the scores of the other persons cannot change.
+ */
+public class ListingMatchSubscription extends MatchSubscription<Person> {
+
+    private final Model model;
+    private Listing listing;
+    private ListingMatchScorer scorer;
+    private Set<Tag> tags;
+    private List<Person> owners;
+
+    /**
+     * Creates a {@code ListingMatchSubscription} to the persons in {@code model} matching {@code listing}.
+     */
+    public ListingMatchSubscription(Model model, Listing listing) {
+        requireAllNonNull(model, listing);
+        this.model = model;
+        snapshot(listing);
+
+        IdentityOrderedSet<Person> candidates = new IdentityOrderedSet<>();
+        addPersons(candidates, model.getPreferencesWithPriceRangeOverlapping(listing.getPriceRange()));
+        addPersonsWithTags(candidates, tags);
+        rescoreAll(candidates);
+    }
+
+    public Listing getListing() {
+        return listing;
+    }
+
+    @Override
+    public Set<Tag> getTargetTags() {
+        return tags;
+    }
+
+    @Override
+    public PriceRange getTargetPriceRange() {
+        return listing.getPriceRange();
+    }
+
+    @Override
+    public void onPersonAdded(Person person) {
+        rescore(person);
+    }
+
+    @Override
+    public void onPersonSet(Person target, Person editedPerson) {
+        if (target != editedPerson) {
+            remove(target);
+        }
+        rescore(editedPerson);
+    }
+
+    @Override
+    public void onPersonRemoved(Person person) {
+        remove(person);
+    }
+
+    @Override
+    public void onListingSet(Listing target, Listing editedListing) {
+        if (target != listing) {
+            return;
+        }
+
+        Set<Tag> oldTags = tags;
+        List<Person> oldOwners = owners;
+        PriceRange oldPriceRange = listing.getPriceRange();
+        snapshot(editedListing);
+
+        IdentityOrderedSet<Person> affected = new IdentityOrderedSet<>();
+        addPersonsWithTags(affected, symmetricDifference(oldTags, tags));
+        affected.addAll(oldOwners);
+        affected.addAll(owners);
+        if (!oldPriceRange.equals(editedListing.getPriceRange())) {
+            addPersons(affected, model.getPreferencesWithPriceRangeOverlapping(oldPriceRange));
+            addPersons(affected, model.getPreferencesWithPriceRangeOverlapping(editedListing.getPriceRange()));
+        }
+        rescoreAll(affected);
+    }
+
+    @Override
+    public void onListingRemoved(Listing removedListing) {
+        if (removedListing == listing) {
+            clear();
+        }
+    }
+
+    @Override
+    protected int score(Person person) {
+        return owners.contains(person) ? MatchEngine.INITIAL_SCORE : scorer.score(person);
+    }
+
+    /**
+     * Keeps copies of the tags and owners {@code listing} has now, so that they can be compared after it changes.
+     */
+    private void snapshot(Listing listing) {
+        this.listing = listing;
+        this.scorer = new ListingMatchScorer(listing);
+        this.tags = Set.copyOf(listing.getTags());
+        this.owners = List.copyOf(listing.getOwners());
+    }
+
+    private static void addPersons(IdentityOrderedSet<Person> persons, Collection<PropertyPreference> preferences) {
+        for (PropertyPreference preference : preferences) {
+            persons.add(preference.getPerson());
+        }
+    }
+
+    private static void addPersonsWithTags(IdentityOrderedSet<Person> persons, Collection<Tag> tags) {
+        for (Tag tag : tags) {
+            addPersons(persons, tag.getPropertyPreferences());
+        }
+    }
+
+    /**
+     * Returns the tags in exactly one of {@code tags1} and {@code tags2}.
+     */
+    static Set<Tag> symmetricDifference(Set<Tag> tags1, Set<Tag> tags2) {
+        Set<Tag> difference = new HashSet<>(tags1);
+        for (Tag tag : tags2) {
+            if (!difference.remove(tag)) {
+                difference.add(tag);
+            }
+        }
+        return difference;
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.model.search;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.PropertyPreference;
+
+/**
+ * The property preferences matching one {@code Listing}, from the best match to the worst, with their match scores.
+ */
+public class ListingMatches {
+
+    private final Listing listing;
+    private final List<PropertyPreference> rankedPreferences;
+    private final int[] rankedScores;
+
+    /**
+     * Creates a {@code ListingMatches} of {@code listing} with the preferences ranked by {@code ranking}.
+     */
+    ListingMatches(Listing listing, MatchRanking<PropertyPreference> ranking) {
+        requireAllNonNull(listing, ranking);
+        this.listing = listing;
+        this.rankedPreferences = ranking.getRankedCandidates();
+        this.rankedScores = ranking.getRankedScores();
+    }
+
+    public Listing getListing() {
+        return listing;
+    }
+
+    /**
+     * Returns the matching preferences from the best match to the worst.
+     */
+    public List<PropertyPreference> getRankedPreferences() {
+        return rankedPreferences;
+    }
+
+    /**
+     * Returns the match score of the preference at {@code rank} in {@link #getRankedPreferences()}, counting from 0.
+     */
+    public int getScore(int rank) {
+        return rankedScores[rank];
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.model.search;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Scores how well property preferences match listings, and ranks the candidates of a match by their scores.
+ * A {@code PropertyPreference} scores a point for a price range that overlaps the {@code Listing}'s and a point for
+ * each of its tags that the {@code Listing} also has. A {@code Person} scores as well as their best preference.
+ * <p>
+ * Each query scores against its own immutable {@link MatchScorer}, so queries can run at the same time, such as on
+ * worker threads, without seeing each other's targets.
+ */
+public class MatchEngine {
+    static final int INITIAL_SCORE = 0;
+    private static final int PRICE_MATCH_SCORE = 1;
+    private static final int TAG_MATCH_SCORE = 1;
+
+    /**
+     * Scores each of {@code candidates} against {@code listing} once and ranks them, best match first.
+     */
+    public static MatchRanking<Person> rankPersons(Listing listing, Collection<Person> candidates) {
+        requireAllNonNull(listing, candidates);
+        return new MatchRanking<>(candidates, new ListingMatchScorer(listing));
+    }
+
+    /**
+     * Scores each of {@code candidates} against {@code preference} once and ranks them, best match first.
+     */
+    public static MatchRanking<Listing> rankListings(PropertyPreference preference, Collection<Listing> candidates) {
+        requireAllNonNull(preference, candidates);
+        return new MatchRanking<>(candidates, new PreferenceMatchScorer(preference));
+    }
+
+    /**
+     * Returns the score of a candidate with {@code candidatePriceRange} and {@code candidateTags} against a target
+     * with {@code targetPriceRange} and tags named {@code targetTagNames}.
+     */
+    static int getMatchScore(PriceRange targetPriceRange, Set<String> targetTagNames,
+                             PriceRange candidatePriceRange, Collection<Tag> candidateTags) {
+        int score = INITIAL_SCORE;
+
+        if (targetPriceRange.doPriceRangeOverlap(candidatePriceRange)) {
+            score += PRICE_MATCH_SCORE;
+        }
+
+        for (Tag tag : candidateTags) {
+            if (targetTagNames.contains(tag.getTagName())) {
+                score += TAG_MATCH_SCORE;
+            }
+        }
+
+        return score;
+    }
+
+    /**
+     * Returns an unmodifiable copy of the names of {@code tags}, which stays the same if {@code tags} change later.
+     */
+    static Set<String> getTagNames(Collection<Tag> tags) {
+        Set<String> tagNames = new HashSet<>();
+        for (Tag tag : tags) {
+            tagNames.add(tag.getTagName());
+        }
+        return Set.copyOf(tagNames);
+    }
+}
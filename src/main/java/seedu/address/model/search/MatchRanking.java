@@ -0,0 +1,163 @@
+package seedu.address.model.search;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * The candidates of a match with their match scores, each computed exactly once, which orders candidates from the
+ * best match to the worst.
+ * <p>
+ * Scoring a candidate walks its preferences and tags, so comparators that score both sides of every comparison do
+ * that work O(log n) times per candidate. A {@code MatchRanking} scores the candidates up front into an array instead,
+ * and a comparison only looks the two scores up. A candidate that was not scored up front, such as a person edited
+ * while the match is shown, is scored when it is compared.
+ * <p>
+ * The scores of candidates are only indexed by candidate the first time a candidate's score is looked up, as a ranking
+ * that is only read in order, such as one written to a match report, never needs the index.
+ * <p>
+ * A {@code MatchRanking} is not changed after it is created, apart from that index, which is built in full before it
+ * is published, so it can be shared by several threads.
+ *
+ * @param <T> the type of the candidates, which are compared by identity.
+ */
+public class MatchRanking<T> implements Comparator<T> {
+
+    private final List<T> candidates;
+    private final int[] scores;
+    private final MatchScorer<T> scorer;
+    private volatile Map<T, Integer> indexes;
+
+    /**
+     * Scores each of {@code candidates} with {@code scorer}.
+     */
+    MatchRanking(Collection<T> candidates, MatchScorer<T> scorer) {
+        requireAllNonNull(candidates, scorer);
+        this.candidates = new ArrayList<>(candidates);
+        this.scores = new int[this.candidates.size()];
+        this.scorer = scorer;
+
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = scorer.score(this.candidates.get(i));
+        }
+    }
+
+    /**
+     * Returns the match score of {@code candidate}.
+     */
+    public int getScore(T candidate) {
+        Integer index = getIndexes().get(candidate);
+        return index == null ? scorer.score(candidate) : scores[index];
+    }
+
+    private Map<T, Integer> getIndexes() {
+        Map<T, Integer> indexes = this.indexes;
+        if (indexes == null) {
+            // Threads that race here each build an equal index, so any of them may be kept.
+            Map<T, Integer> newIndexes = new IdentityHashMap<>();
+            for (int i = 0; i < candidates.size(); i++) {
+                newIndexes.put(candidates.get(i), i);
+            }
+            indexes = Collections.unmodifiableMap(newIndexes);
+            this.indexes = indexes;
+        }
+        return indexes;
+    }
+
+    /**
+     * Orders {@code candidate1} before {@code candidate2} if it has the higher match score.
+     */
+    @Override
+    public int compare(T candidate1, T candidate2) {
+        requireAllNonNull(candidate1, candidate2);
+        return Integer.compare(getScore(candidate2), getScore(candidate1));
+    }
+
+    /**
+     * Returns the candidates from the best match to the worst, with candidates of equal scores in the order they were
+     * given in.
+     */
+    public List<T> getRankedCandidates() {
+        long[] keys = new long[scores.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = toKey(i);
+        }
+        return toCandidates(keys);
+    }
+
+    /**
+     * Returns the scores of the candidates from the best match to the worst, in the order of
+     * {@link #getRankedCandidates()}.
+     */
+    public int[] getRankedScores() {
+        int[] rankedScores = scores.clone();
+        Arrays.sort(rankedScores);
+        for (int i = 0, j = rankedScores.length - 1; i < j; i++, j--) {
+            int score = rankedScores[i];
+            rankedScores[i] = rankedScores[j];
+            rankedScores[j] = score;
+        }
+        return rankedScores;
+    }
+
+    /**
+     * Returns the sort key of the candidate at {@code index}: its negated score above its index, so that better
+     * matches have smaller keys and candidates of equal scores keep their order.
+     */
+    private long toKey(int index) {
+        return ((long) -scores[index] << Integer.SIZE) | index;
+    }
+
+    private List<T> toCandidates(long[] keys) {
+        Arrays.sort(keys);
+        List<T> ranked = new ArrayList<>(keys.length);
+        for (long key : keys) {
+            ranked.add(candidates.get((int) key));
+        }
+        return Collections.unmodifiableList(ranked);
+    }
+
+    /**
+     * Returns the best {@code limit} candidates from the best match to the worst, ordered as in
+     * {@link #getRankedCandidates()}, or every candidate if there are no more than {@code limit}.
+     * Takes O(n log limit) time, as only the best candidates seen so far are kept in a bounded heap.
+     */
+    public List<T> getTopCandidates(int limit) {
+        checkArgument(limit > 0, "The limit must be positive");
+        if (limit >= scores.length) {
+            return getRankedCandidates();
+        }
+
+        // The heap keeps the keys of the best candidates seen so far, with the worst of them at the head.
+        PriorityQueue<Long> best = new PriorityQueue<>(limit, Comparator.reverseOrder());
+        for (int i = 0; i < scores.length; i++) {
+            long key = toKey(i);
+            if (best.size() < limit) {
+                best.add(key);
+            } else if (key < best.peek()) {
+                best.poll();
+                best.add(key);
+            }
+        }
+
+        long[] keys = new long[best.size()];
+        int count = 0;
+        for (long key : best) {
+            keys[count++] = key;
+        }
+        return toCandidates(keys);
+    }
+
+    public int size() {
+        return candidates.size();
+    }
+}
@@ -0,0 +1,17 @@
+package seedu.address.model.search;
+
+/**
+ * Scores how well candidates match the target of one match query, where a higher score is a better match.
+ * Implementations are immutable and take what they need from the target when they are created, so one scorer can be
+ * shared by several threads and is not affected by later queries or later edits of the target.
+ *
+ * @param <T> the type of the candidates.
+ */
+@FunctionalInterface
+public interface MatchScorer<T> {
+
+    /**
+     * Returns the match score of {@code candidate}, which is never negative.
+     */
+    int score(T candidate);
+}
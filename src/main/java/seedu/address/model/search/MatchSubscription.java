@@ -0,0 +1,159 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The matches of a match query that are kept current as the address book changes, so that a match view can stay
+ * shown while listings and persons are edited.
+ * <p>
+ * A {@code MatchSubscription} keeps the match score of each matching row. When it is told that a listing or person
+ * changed, it rescores only the rows that the change can affect, such as the rows that share a tag that was added to
+ * or removed from the target, instead of matching every row again.
+ * <p>
+ * Views of the matches filter and sort by the shown scores, which only take the new scores when
+ * {@link #showChanges(Consumer)} shows each changed row in turn. A view then only has to test and place the changed
+ * rows again, one at a time, while the rows it has placed are still ordered by the scores it placed them by.
+ *
+ * @param <T> the type of the rows, which are compared by identity.
+ */
+public abstract class MatchSubscription<T> {
+
+    private final Map<T, Integer> scores = new IdentityHashMap<>();
+    private final Map<T, Integer> shownScores = new IdentityHashMap<>();
+    private final Set<T> changedRows = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Predicate<T> filter = shownScores::containsKey;
+    private final Comparator<T> comparator = (row1, row2) -> Integer.compare(getShownScore(row2),
+            getShownScore(row1));
+
+    /**
+     * Returns true if {@code row} matches the target.
+     */
+    public boolean contains(T row) {
+        requireNonNull(row);
+        return scores.containsKey(row);
+    }
+
+    /**
+     * Returns the match score of {@code row}, or the initial score if it does not match the target.
+     */
+    public int getScore(T row) {
+        requireNonNull(row);
+        return scores.getOrDefault(row, MatchEngine.INITIAL_SCORE);
+    }
+
+    public int size() {
+        return scores.size();
+    }
+
+    /**
+     * Returns the predicate that tests true for the shown matches.
+     */
+    public Predicate<T> getFilter() {
+        return filter;
+    }
+
+    /**
+     * Returns the comparator that orders the shown matches from the best match to the worst.
+     */
+    public Comparator<T> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Shows each row that started or stopped matching, or whose score changed, since the last call, and then passes it
+     * to {@code refresher}, which should have the views of the matches test and place it again.
+     */
+    public void showChanges(Consumer<T> refresher) {
+        requireNonNull(refresher);
+        List<T> rowsToShow = new ArrayList<>(changedRows);
+        changedRows.clear();
+
+        for (T row : rowsToShow) {
+            Integer score = scores.get(row);
+            if (score == null) {
+                shownScores.remove(row);
+            } else {
+                shownScores.put(row, score);
+            }
+            refresher.accept(row);
+        }
+    }
+
+    private int getShownScore(T row) {
+        return shownScores.getOrDefault(row, MatchEngine.INITIAL_SCORE);
+    }
+
+    public abstract Set<Tag> getTargetTags();
+
+    public abstract PriceRange getTargetPriceRange();
+
+    /*
+     * The methods below are called after the address book changes. A setter is also called with the same person or
+     * listing as both arguments after its tags, availability or associations are changed in place.
+     */
+
+    public void onPersonAdded(Person person) {}
+
+    public void onPersonSet(Person target, Person editedPerson) {}
+
+    public void onPersonRemoved(Person person) {}
+
+    public void onListingAdded(Listing listing) {}
+
+    public void onListingSet(Listing target, Listing editedListing) {}
+
+    public void onListingRemoved(Listing listing) {}
+
+    /**
+     * Returns the match score of {@code row}, or the initial score if it does not match the target.
+     */
+    protected abstract int score(T row);
+
+    /**
+     * Scores {@code row} again, adding it to or removing it from the matches.
+     */
+    protected void rescore(T row) {
+        int score = score(row);
+        if (score == MatchEngine.INITIAL_SCORE) {
+            remove(row);
+            return;
+        }
+
+        Integer oldScore = scores.put(row, score);
+        if (oldScore == null || oldScore != score) {
+            changedRows.add(row);
+        }
+    }
+
+    protected void rescoreAll(Iterable<T> rows) {
+        for (T row : rows) {
+            rescore(row);
+        }
+    }
+
+    protected void remove(T row) {
+        if (scores.remove(row) != null) {
+            changedRows.add(row);
+        }
+    }
+
+    protected void clear() {
+        changedRows.addAll(scores.keySet());
+        scores.clear();
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.PriceRange;
+
+/**
+ * Scores how well listings match one {@code PropertyPreference}.
+ */
+public class PreferenceMatchScorer implements MatchScorer<Listing> {
+
+    private final PriceRange priceRange;
+    private final Set<String> tagNames;
+
+    /**
+     * Creates a {@code PreferenceMatchScorer} for the price range and tags {@code preference} has now.
+     */
+    public PreferenceMatchScorer(PropertyPreference preference) {
+        requireNonNull(preference);
+        this.priceRange = preference.getPriceRange();
+        this.tagNames = MatchEngine.getTagNames(preference.getTags());
+    }
+
+    @Override
+    public int score(Listing listing) {
+        requireNonNull(listing);
+        return MatchEngine.getMatchScore(priceRange, tagNames, listing.getPriceRange(), listing.getTags());
+    }
+}
@@ -0,0 +1,135 @@
+package seedu.address.model.search;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.Model;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.IdentityOrderedSet;
+
+/**
+ * The available listings matching a {@code PropertyPreference}, as {@code MatchPreferenceCommand} matches them, kept
+ * current as the address book changes. The listings owned by the person with the preference never match it.
+ * <p>
+ * A listing is rescored when it changes. When the person with the preference changes, only the listings with one of
+ * the tags added to or removed from the preference, and the listings the person started or stopped owning, are
+ * rescored, as the scores of the other listings cannot change.
+ */
+public class PreferenceMatchSubscription extends MatchSubscription<Listing> {
+
+    private final Model model;
+    private final PropertyPreference preference;
+    private Person person;
+    private PreferenceMatchScorer scorer;
+    private Set<Tag> tags;
+    private List<Listing> ownedListings;
+
+    /**
+     * Creates a {@code PreferenceMatchSubscription} to the listings in {@code model} matching {@code preference}.
+     */
+    public PreferenceMatchSubscription(Model model, PropertyPreference preference) {
+        requireAllNonNull(model, preference);
+        this.model = model;
+        this.preference = preference;
+        snapshot(preference.getPerson());
+
+        IdentityOrderedSet<Listing> candidates = new IdentityOrderedSet<>();
+        candidates.addAll(model.getListingsWithPriceRangeOverlapping(preference.getPriceRange()));
+        addListingsWithTags(candidates, tags);
+        rescoreAll(candidates);
+    }
+
+    public PropertyPreference getPreference() {
+        return preference;
+    }
+
+    @Override
+    public Set<Tag> getTargetTags() {
+        return tags;
+    }
+
+    @Override
+    public PriceRange getTargetPriceRange() {
+        return preference.getPriceRange();
+    }
+
+    @Override
+    public void onPersonSet(Person target, Person editedPerson) {
+        if (target != person) {
+            return;
+        }
+
+        if (!editedPerson.getPropertyPreferences().contains(preference)) {
+            person = editedPerson;
+            clear();
+            return;
+        }
+
+        Set<Tag> oldTags = tags;
+        List<Listing> oldOwnedListings = ownedListings;
+        snapshot(editedPerson);
+
+        IdentityOrderedSet<Listing> affected = new IdentityOrderedSet<>();
+        addListingsWithTags(affected, ListingMatchSubscription.symmetricDifference(oldTags, tags));
+        affected.addAll(oldOwnedListings);
+        affected.addAll(ownedListings);
+        rescoreAll(affected);
+    }
+
+    @Override
+    public void onPersonRemoved(Person removedPerson) {
+        if (removedPerson == person) {
+            clear();
+        }
+    }
+
+    @Override
+    public void onListingAdded(Listing listing) {
+        rescore(listing);
+    }
+
+    @Override
+    public void onListingSet(Listing target, Listing editedListing) {
+        if (target != editedListing) {
+            remove(target);
+        }
+        rescore(editedListing);
+    }
+
+    @Override
+    public void onListingRemoved(Listing listing) {
+        remove(listing);
+    }
+
+    @Override
+    protected int score(Listing listing) {
+        if (!listing.getAvailability() || ownedListings.contains(listing)) {
+            return MatchEngine.INITIAL_SCORE;
+        }
+        return scorer.score(listing);
+    }
+
+    /**
+     * Keeps copies of the tags of the preference and the listings {@code person} owns now, so that they can be
+     * compared after they change.
+     */
+    private void snapshot(Person person) {
+        this.person = person;
+        this.scorer = new PreferenceMatchScorer(preference);
+        this.tags = Set.copyOf(preference.getTags());
+        this.ownedListings = List.copyOf(person.getListings());
+    }
+
+    private static void addListingsWithTags(IdentityOrderedSet<Listing> listings, Collection<Tag> tags) {
+        for (Tag tag : tags) {
+            listings.addAll(tag.getListings());
+        }
+    }
+}
@@ -8,6 +8,8 @@ import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.model.Model;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.PropertyPreference;
 import seedu.address.model.price.PriceRange;
 import seedu.address.model.tag.Tag;
@@ -20,6 +22,8 @@ public class SearchContext {
     private final Set<Tag> activeTags = new HashSet<>();
     private PriceRange activePriceRange;
     private Predicate<PropertyPreference> propertyPreferencePredicate = Model.PREDICATE_SHOW_ALL_PROPERTY_PREFERENCES;
+    private TopMatches<Person> topPersonMatches;
+    private TopMatches<Listing> topListingMatches;
 
     /* Search Configuration Methods */
 
@@ -40,6 +44,8 @@ public class SearchContext {
         setActiveSearchTags(tags);
         setActivePriceRange(range); // range can be null
         setPropertyPreferencePredicate(predicate);
+        setTopPersonMatches(null);
+        setTopListingMatches(null);
     }
 
     /**
@@ -142,5 +148,26 @@ public class SearchContext {
         this.propertyPreferencePredicate = requireNonNull(predicate);
     }
 
+    /**
+     * Returns the persons shown by a top matches search, or null if the search shows every match.
+     */
+    public TopMatches<Person> getTopPersonMatches() {
+        return topPersonMatches;
+    }
+
+    public void setTopPersonMatches(TopMatches<Person> topPersonMatches) {
+        this.topPersonMatches = topPersonMatches; // intentionally allowing null
+    }
+
+    /**
+     * Returns the listings shown by a top matches search, or null if the search shows every match.
+     */
+    public TopMatches<Listing> getTopListingMatches() {
+        return topListingMatches;
+    }
+
+    public void setTopListingMatches(TopMatches<Listing> topListingMatches) {
+        this.topListingMatches = topListingMatches; // intentionally allowing null
+    }
 
 }
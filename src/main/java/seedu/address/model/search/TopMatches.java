@@ -0,0 +1,83 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * The best matches of a match query that are shown, a page at a time, out of every candidate in a
+ * {@link MatchRanking}. Tests true for the candidates that are shown, so that only they are kept in the displayed
+ * list, which then stays small however many candidates match.
+ * <p>
+ * A {@code TopMatches} is immutable: {@link #showMore()} returns the continuation that shows the next page as well.
+ *
+ * @param <T> the type of the candidates.
+ */
+public class TopMatches<T> implements Predicate<T> {
+
+    private final MatchRanking<T> ranking;
+    private final int pageSize;
+    private final List<T> shownMatches;
+    private final Set<T> shownMatchSet;
+
+    /**
+     * Creates a {@code TopMatches} showing the best {@code pageSize} candidates of {@code ranking}.
+     */
+    public TopMatches(MatchRanking<T> ranking, int pageSize) {
+        this(ranking, pageSize, pageSize);
+    }
+
+    private TopMatches(MatchRanking<T> ranking, int pageSize, int shownCount) {
+        requireNonNull(ranking);
+        checkArgument(pageSize > 0, "The page size must be positive");
+        this.ranking = ranking;
+        this.pageSize = pageSize;
+        this.shownMatches = ranking.getTopCandidates(shownCount);
+        this.shownMatchSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        shownMatchSet.addAll(shownMatches);
+    }
+
+    /**
+     * Returns the continuation of this {@code TopMatches}, which shows the next page of candidates as well.
+     */
+    public TopMatches<T> showMore() {
+        checkArgument(hasMore(), "Every match is already shown");
+        return new TopMatches<>(ranking, pageSize, shownMatches.size() + pageSize);
+    }
+
+    /**
+     * Returns true if there are candidates that are not shown yet.
+     */
+    public boolean hasMore() {
+        return shownMatches.size() < ranking.size();
+    }
+
+    /**
+     * Returns the shown candidates from the best match to the worst.
+     */
+    public List<T> getShownMatches() {
+        return shownMatches;
+    }
+
+    public int getShownCount() {
+        return shownMatches.size();
+    }
+
+    public int getTotalCount() {
+        return ranking.size();
+    }
+
+    public MatchRanking<T> getRanking() {
+        return ranking;
+    }
+
+    @Override
+    public boolean test(T candidate) {
+        return shownMatchSet.contains(candidate);
+    }
+}
@@ -10,20 +10,15 @@ import seedu.address.model.person.Person;
  * Compares two {@code Person}s based on the following criteria:
  * 1. Name (primary)
  * 2. Phone Number (secondary)
- * If two {@code Person}s have the same postal code, they will then be ordered by their phone number.
+ * If two {@code Person}s have the same name, they will then be ordered by their phone number.
+ * The criteria are precomputed into the sort key of each {@code Person}, so a comparison is a single string
+ * comparison.
  */
 public class DefaultPersonComparator implements Comparator<Person> {
 
     @Override
     public int compare(Person person1, Person person2) {
-        requireAllNonNull(person1, person1);
-
-        int nameCompare = person1.getName().fullName.compareTo(person2.getName().fullName);
-
-        if (nameCompare != 0) {
-            return nameCompare;
-        }
-
-        return person1.getPhone().value.compareTo(person2.getPhone().value);
+        requireAllNonNull(person1, person2);
+        return person1.getSortKey().compareTo(person2.getSortKey());
     }
 }
@@ -14,6 +14,7 @@ import seedu.address.model.tag.Tag;
  */
 public class ListingContainsAllTagsPredicate implements Predicate<Listing> {
     private final Set<String> tagsToMatch;
+    private final Set<Listing> matchingListings;
 
     /**
      * Constructs a {@code ListingContainsAllTagsPredicate} with the specified tags to match.
@@ -24,12 +25,33 @@ public class ListingContainsAllTagsPredicate implements Predicate<Listing> {
         requireNonNull(tagsToMatch);
 
         this.tagsToMatch = tagsToMatch;
+        this.matchingListings = null;
+    }
+
+    /**
+     * Constructs a {@code ListingContainsAllTagsPredicate} with the specified tags to match and
+     * {@code matchingListings}, the listings already found to contain all the tags, such as through the tag index.
+     * Each listing is then only looked up in {@code matchingListings}.
+     *
+     * @param tagsToMatch The set of tags to match.
+     * @param matchingListings The listings that contain all the tags.
+     */
+    public ListingContainsAllTagsPredicate(Set<String> tagsToMatch, Set<Listing> matchingListings) {
+        requireNonNull(tagsToMatch);
+        requireNonNull(matchingListings);
+
+        this.tagsToMatch = tagsToMatch;
+        this.matchingListings = matchingListings;
     }
 
     @Override
     public boolean test(Listing listing) {
         requireNonNull(listing);
 
+        if (matchingListings != null) {
+            return matchingListings.contains(listing);
+        }
+
         Set<String> listingTags = listing.getTags().stream()
                 .map(Tag::getTagName)
                 .map(String::toLowerCase)
@@ -17,6 +17,7 @@ import seedu.address.model.tag.Tag;
  */
 public class ListingMatchesPreferencePredicate implements Predicate<Listing> {
     private final PropertyPreference preferenceToMatch;
+    private final Set<Listing> candidates;
 
     /**
      * Constructs a {@code ListingMatchesPreferencePredicate} with the given {@code PropertyPreference}.
@@ -27,6 +28,23 @@ public class ListingMatchesPreferencePredicate implements Predicate<Listing> {
         requireNonNull(preferenceToMatch);
 
         this.preferenceToMatch = preferenceToMatch;
+        this.candidates = null;
+    }
+
+    /**
+     * Constructs a {@code ListingMatchesPreferencePredicate} with the given {@code PropertyPreference} and
+     * {@code candidates}, the listings that share a tag or have an overlapping price range with the preference.
+     * The tags and price range of each listing are then not tested again.
+     *
+     * @param preferenceToMatch The {@code PropertyPreference} to match.
+     * @param candidates The listings matching the {@code PropertyPreference}.
+     */
+    public ListingMatchesPreferencePredicate(PropertyPreference preferenceToMatch, Set<Listing> candidates) {
+        requireNonNull(preferenceToMatch);
+        requireNonNull(candidates);
+
+        this.preferenceToMatch = preferenceToMatch;
+        this.candidates = candidates;
     }
 
     @Override
@@ -39,6 +57,10 @@ public class ListingMatchesPreferencePredicate implements Predicate<Listing> {
             return false;
         }
 
+        if (candidates != null) {
+            return candidates.contains(listing);
+        }
+
         boolean priceRangeOverlaps = preferenceToMatch.getPriceRange().doPriceRangeOverlap(listing.getPriceRange());
         if (priceRangeOverlaps) {
             return true;
@@ -18,6 +18,7 @@ import seedu.address.model.tag.Tag;
  */
 public class PersonMatchesPropertyPredicate implements Predicate<Person> {
     private final Listing listingToMatch;
+    private final Set<Person> candidates;
 
     /**
      * Creates a predicate that tests if a {@code Person}'s property preferences matches a {@code Listing}.
@@ -28,12 +29,33 @@ public class PersonMatchesPropertyPredicate implements Predicate<Person> {
         requireNonNull(listingToMatch);
 
         this.listingToMatch = listingToMatch;
+        this.candidates = null;
+    }
+
+    /**
+     * Creates a predicate that tests if a {@code Person}'s property preferences matches a {@code Listing}, given
+     * {@code candidates}, the persons who have a property preference that shares a tag or has an overlapping price
+     * range with the listing. The preferences of each person are then not tested again.
+     *
+     * @param listingToMatch The listing to match.
+     * @param candidates The persons with a property preference matching the listing.
+     */
+    public PersonMatchesPropertyPredicate(Listing listingToMatch, Set<Person> candidates) {
+        requireNonNull(listingToMatch);
+        requireNonNull(candidates);
+
+        this.listingToMatch = listingToMatch;
+        this.candidates = candidates;
     }
 
     @Override
     public boolean test(Person person) {
         requireNonNull(person);
 
+        if (candidates != null) {
+            return candidates.contains(person) && !listingToMatch.getOwners().contains(person);
+        }
+
         List<PropertyPreference> propertyPreferences = person.getPropertyPreferences();
 
         if (propertyPreferences.isEmpty()) {
@@ -12,6 +12,7 @@ import seedu.address.model.person.Person;
  */
 public class PersonPropertyPreferencesContainAllTagsPredicate implements Predicate<Person> {
     private final Set<String> tagsToMatch;
+    private final Set<Person> matchingPersons;
 
     /**
      * Constructs a predicate that tests if a person's property preferences contain all the specified tags.
@@ -22,6 +23,23 @@ public class PersonPropertyPreferencesContainAllTagsPredicate implements Predica
         requireNonNull(tagsToMatch);
 
         this.tagsToMatch = tagsToMatch;
+        this.matchingPersons = null;
+    }
+
+    /**
+     * Constructs a predicate that tests if a person's property preferences contain all the specified tags, given
+     * {@code matchingPersons}, the persons already found to have such a property preference, such as through the tag
+     * index. Each person is then only looked up in {@code matchingPersons}.
+     *
+     * @param tagsToMatch The tags to match.
+     * @param matchingPersons The persons with a property preference that contains all the tags.
+     */
+    public PersonPropertyPreferencesContainAllTagsPredicate(Set<String> tagsToMatch, Set<Person> matchingPersons) {
+        requireNonNull(tagsToMatch);
+        requireNonNull(matchingPersons);
+
+        this.tagsToMatch = tagsToMatch;
+        this.matchingPersons = matchingPersons;
     }
 
     @Override
@@ -31,6 +49,9 @@ public class PersonPropertyPreferencesContainAllTagsPredicate implements Predica
         if (tagsToMatch.isEmpty()) {
             return false;
         }
+        if (matchingPersons != null) {
+            return matchingPersons.contains(person);
+        }
         return person.getPropertyPreferences().stream()
                 .anyMatch(pref -> tagsToMatch.stream()
                         .allMatch(tagToFind -> pref.getTags().stream()
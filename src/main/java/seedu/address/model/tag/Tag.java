@@ -4,14 +4,15 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.commons.util.ValidationUtil;
 import seedu.address.model.listing.Listing;
 import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.util.IdentityOrderedSet;
 
 /**
  * Represents a tag in the real estate system.
@@ -23,13 +24,14 @@ public class Tag {
             + "contain letters, numbers, apostrophes, spaces, periods, hyphens, underscores, plus, and ampersands. "
             + "The tag cannot be blank and must not already exist (unless for deleting).";
     public static final String VALIDATION_REGEX = "^[a-zA-Z0-9' ._+&-]{2,30}$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     // Identity fields
     public final String tagName;
 
     // Associations
-    private final List<PropertyPreference> propertyPreferences = new ArrayList<>();
-    private final List<Listing> listings = new ArrayList<>();
+    private final IdentityOrderedSet<PropertyPreference> propertyPreferences = new IdentityOrderedSet<>();
+    private final IdentityOrderedSet<Listing> listings = new IdentityOrderedSet<>();
 
 
     /**
@@ -43,7 +45,7 @@ public class Tag {
         requireAllNonNull(tagName, propertyPreferences, listings);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
 
-        this.tagName = tagName.toUpperCase();
+        this.tagName = TagInterner.toKey(tagName);
         this.propertyPreferences.addAll(propertyPreferences);
         this.listings.addAll(listings);
     }
@@ -52,7 +54,7 @@ public class Tag {
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.matches(VALIDATION_PATTERN, test);
     }
 
     //// Getters
@@ -66,7 +68,7 @@ public class Tag {
      * if modification is attempted.
      */
     public List<PropertyPreference> getPropertyPreferences() {
-        return Collections.unmodifiableList(propertyPreferences);
+        return propertyPreferences.asUnmodifiableList();
     }
 
     /**
@@ -74,7 +76,7 @@ public class Tag {
      * if modification is attempted.
      */
     public List<Listing> getListings() {
-        return Collections.unmodifiableList(listings);
+        return listings.asUnmodifiableList();
     }
 
     //// Setters for associations
@@ -0,0 +1,141 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.util.DenseIdMap;
+
+/**
+ * An inverted index from tags to the items that use them, such as listings or property preferences, which answers
+ * queries for items with all or any of a set of tags without testing every item.
+ * <p>
+ * Items are given dense ids by a {@link DenseIdMap} while they are indexed, and each tag keeps the ids of its items
+ * as a bitmap. A query combines the bitmaps of its tags with bitwise AND or OR, which handles
+ * 64 items per step.
+ *
+ * @param <T> the type of the items, which are compared by identity.
+ */
+public class TagBitmapIndex<T> {
+
+    private final DenseIdMap<T> ids = new DenseIdMap<>();
+    private final BitSet indexedIds = new BitSet();
+    private final List<List<String>> tagNamesById = new ArrayList<>();
+    private final Map<String, BitSet> idsByTagName = new HashMap<>();
+
+    /**
+     * Indexes {@code item} under {@code tags}, replacing the tags it was indexed under before, if any.
+     */
+    public void add(T item, Collection<Tag> tags) {
+        requireAllNonNull(item, tags);
+        int id = ids.assign(item);
+        removeId(id);
+
+        List<String> tagNames = new ArrayList<>(tags.size());
+        for (Tag tag : tags) {
+            tagNames.add(tag.getTagName());
+            idsByTagName.computeIfAbsent(tag.getTagName(), unused -> new BitSet()).set(id);
+        }
+
+        while (tagNamesById.size() <= id) {
+            tagNamesById.add(null);
+        }
+        tagNamesById.set(id, tagNames);
+        indexedIds.set(id);
+    }
+
+    /**
+     * Removes {@code item} from the index, freeing its id for another item.
+     *
+     * @return true if the index contained {@code item}.
+     */
+    public boolean remove(T item) {
+        requireNonNull(item);
+        int id = ids.release(item);
+        return id != DenseIdMap.NO_ID && removeId(id);
+    }
+
+    private boolean removeId(int id) {
+        if (!indexedIds.get(id)) {
+            return false;
+        }
+
+        for (String tagName : tagNamesById.get(id)) {
+            BitSet tagIds = idsByTagName.get(tagName);
+            tagIds.clear(id);
+            if (tagIds.isEmpty()) {
+                idsByTagName.remove(tagName);
+            }
+        }
+        tagNamesById.set(id, null);
+        indexedIds.clear(id);
+        return true;
+    }
+
+    public int size() {
+        return indexedIds.cardinality();
+    }
+
+    /**
+     * Removes every item from the index.
+     */
+    public void clear() {
+        ids.clear();
+        indexedIds.clear();
+        tagNamesById.clear();
+        idsByTagName.clear();
+    }
+
+    /**
+     * Returns the items indexed under every tag in {@code tagNames}, in any letter case.
+     * Returns every item if {@code tagNames} is empty.
+     */
+    public Set<T> getWithAllTags(Collection<String> tagNames) {
+        requireNonNull(tagNames);
+        BitSet matches = (BitSet) indexedIds.clone();
+        for (String tagName : tagNames) {
+            BitSet tagIds = idsByTagName.get(TagInterner.toKey(tagName));
+            if (tagIds == null) {
+                return newIdentitySet();
+            }
+            matches.and(tagIds);
+        }
+        return toItems(matches);
+    }
+
+    /**
+     * Returns the items indexed under at least one tag in {@code tagNames}, in any letter case.
+     */
+    public Set<T> getWithAnyTags(Collection<String> tagNames) {
+        requireNonNull(tagNames);
+        BitSet matches = new BitSet();
+        for (String tagName : tagNames) {
+            BitSet tagIds = idsByTagName.get(TagInterner.toKey(tagName));
+            if (tagIds != null) {
+                matches.or(tagIds);
+            }
+        }
+        return toItems(matches);
+    }
+
+    private Set<T> toItems(BitSet matchingIds) {
+        Set<T> items = newIdentitySet();
+        for (int id = matchingIds.nextSetBit(0); id >= 0; id = matchingIds.nextSetBit(id + 1)) {
+            items.add(ids.get(id));
+        }
+        return items;
+    }
+
+    private static <T> Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
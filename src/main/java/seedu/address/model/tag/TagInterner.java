@@ -0,0 +1,86 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps tag names, as typed by the user, to the canonical {@code Tag} with that name in a {@link UniqueTagMap}.
+ * Tags are keyed by their case-folded name, which is computed once per spelling and remembered, so looking up a tag
+ * by a spelling seen before creates no {@code Tag}, string or regex matcher. A remembered tag is only returned while
+ * it is still the tag under its name, so a tag replaced in the map is found again instead.
+ */
+public class TagInterner {
+
+    /** The number of spellings remembered before they are all forgotten, so that stray input cannot grow the cache. */
+    static final int MAX_SPELLINGS = 4096;
+
+    private final Map<String, Tag> tagsByKey;
+    private final Map<String, Tag> tagsBySpelling = new HashMap<>();
+
+    /**
+     * Creates a {@code TagInterner} over {@code tagsByKey}, which maps the case-folded names of tags to the tags.
+     */
+    public TagInterner(Map<String, Tag> tagsByKey) {
+        requireNonNull(tagsByKey);
+        this.tagsByKey = tagsByKey;
+    }
+
+    /**
+     * Returns the case-folded form of {@code tagName}, which is the key of the tag with that name.
+     * Returns {@code tagName} itself if it is already folded.
+     */
+    public static String toKey(String tagName) {
+        requireNonNull(tagName);
+
+        int firstLowerCase = 0;
+        while (firstLowerCase < tagName.length() && !isAsciiLowerCase(tagName.charAt(firstLowerCase))) {
+            firstLowerCase++;
+        }
+        if (firstLowerCase == tagName.length()) {
+            return tagName;
+        }
+
+        // Tag names are ASCII, so folding ASCII letters alone matches the names regardless of the default locale.
+        char[] folded = tagName.toCharArray();
+        for (int i = firstLowerCase; i < folded.length; i++) {
+            if (isAsciiLowerCase(folded[i])) {
+                folded[i] = (char) (folded[i] - ('a' - 'A'));
+            }
+        }
+        return new String(folded);
+    }
+
+    private static boolean isAsciiLowerCase(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    /**
+     * Returns the tag named {@code tagName} in any letter case, or null if there is no such tag.
+     */
+    public Tag intern(String tagName) {
+        requireNonNull(tagName);
+
+        Tag tag = tagsBySpelling.get(tagName);
+        if (tag != null && tagsByKey.get(tag.getTagName()) == tag) {
+            return tag;
+        }
+
+        tag = tagsByKey.get(toKey(tagName));
+        if (tag != null) {
+            if (tagsBySpelling.size() >= MAX_SPELLINGS) {
+                tagsBySpelling.clear();
+            }
+            tagsBySpelling.put(tagName, tag);
+        }
+        return tag;
+    }
+
+    /**
+     * Forgets every remembered spelling, such as when the tags they were remembered for are removed.
+     */
+    public void clear() {
+        tagsBySpelling.clear();
+    }
+}
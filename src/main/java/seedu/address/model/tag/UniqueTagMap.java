@@ -26,6 +26,7 @@ public class UniqueTagMap implements Iterable<Tag> {
     private final ObservableMap<String, Tag> internalHashmap = FXCollections.observableHashMap();
     private final ObservableMap<String, Tag> internalUnmodifiableMap =
             FXCollections.unmodifiableObservableMap(internalHashmap);
+    private final TagInterner tagInterner = new TagInterner(internalHashmap);
 
     /**
      * Checks if the hashmap contains an equivalent tag with the same tag name as the given argument.
@@ -39,6 +40,17 @@ public class UniqueTagMap implements Iterable<Tag> {
         return internalHashmap.containsKey(toCheck.getTagName());
     }
 
+    /**
+     * Checks if the hashmap contains a tag with the given tag name in any letter case.
+     *
+     * @param tagName The name of the tag to check.
+     * @return true if the hashmap contains a tag with the given tag name, false otherwise.
+     */
+    public boolean contains(String tagName) {
+        requireNonNull(tagName);
+        return tagInterner.intern(tagName) != null;
+    }
+
     /**
      * Gets the existing tag with the specified tag name.
      * {@code tagName} must exist in the hashmap.
@@ -50,12 +62,12 @@ public class UniqueTagMap implements Iterable<Tag> {
     public Tag get(String tagName) {
         requireNonNull(tagName);
 
-        String upperTagName = tagName.toUpperCase();
-        if (!internalHashmap.containsKey(upperTagName)) {
+        Tag tag = tagInterner.intern(tagName);
+        if (tag == null) {
             throw new TagNotFoundException();
         }
 
-        return internalHashmap.get(upperTagName);
+        return tag;
     }
 
     /**
@@ -93,6 +105,12 @@ public class UniqueTagMap implements Iterable<Tag> {
             throw new DuplicateTagException();
         }
 
+        if (target.getTagName().equals(editedTag.getTagName())) {
+            // The spellings remembered for the name still find the tag under it, so they are kept.
+            internalHashmap.put(editedTag.getTagName(), editedTag);
+            return;
+        }
+
         remove(target);
         add(editedTag);
     }
@@ -112,6 +130,8 @@ public class UniqueTagMap implements Iterable<Tag> {
         }
 
         internalHashmap.remove(toRemove.getTagName());
+        // Lets the removed tag be collected, instead of being kept by the spellings remembered for it.
+        tagInterner.clear();
     }
 
     /**
@@ -128,6 +148,7 @@ public class UniqueTagMap implements Iterable<Tag> {
         }
 
         internalHashmap.clear();
+        tagInterner.clear();
         for (Tag tag : tags) {
             internalHashmap.put(tag.getTagName(), tag);
         }
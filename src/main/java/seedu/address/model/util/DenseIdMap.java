@@ -0,0 +1,79 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gives each object a small integer id, so that an index can refer to objects by position, such as in a bitmap.
+ * Ids are dense: the lowest free id is given out first, so every id is below the number of objects ever held at
+ * once. An object keeps its id until it is released.
+ *
+ * @param <T> the type of the objects, which are compared by identity.
+ */
+public class DenseIdMap<T> {
+
+    public static final int NO_ID = -1;
+
+    private final Map<T, Integer> ids = new IdentityHashMap<>();
+    private final List<T> objectsById = new ArrayList<>();
+    private final BitSet freeIds = new BitSet();
+
+    /**
+     * Returns the id of {@code object}, giving it the lowest free id if it does not have one yet.
+     */
+    public int assign(T object) {
+        requireNonNull(object);
+        Integer existingId = ids.get(object);
+        if (existingId != null) {
+            return existingId;
+        }
+
+        int id = freeIds.isEmpty() ? objectsById.size() : freeIds.nextSetBit(0);
+        if (id == objectsById.size()) {
+            objectsById.add(object);
+        } else {
+            freeIds.clear(id);
+            objectsById.set(id, object);
+        }
+        ids.put(object, id);
+        return id;
+    }
+
+    /**
+     * Frees the id of {@code object}, to be given to another object later.
+     *
+     * @return the id {@code object} had, or {@link #NO_ID} if it had none.
+     */
+    public int release(T object) {
+        requireNonNull(object);
+        Integer id = ids.remove(object);
+        if (id == null) {
+            return NO_ID;
+        }
+
+        objectsById.set(id, null);
+        freeIds.set(id);
+        return id;
+    }
+
+    /**
+     * Returns the object with {@code id}, or null if no object has that id.
+     */
+    public T get(int id) {
+        return id >= 0 && id < objectsById.size() ? objectsById.get(id) : null;
+    }
+
+    /**
+     * Frees every id.
+     */
+    public void clear() {
+        ids.clear();
+        objectsById.clear();
+        freeIds.clear();
+    }
+}
@@ -0,0 +1,211 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A set of objects compared by identity, which keeps the order they were added in.
+ * Adding and checking for an object take constant time, unlike an {@code ArrayList}, which has to compare the object
+ * with every element. This suits the associations between tags, persons and listings, which link to the exact
+ * objects in the address book.
+ * <p>
+ * Removing an object also takes constant time, as it only leaves a gap where the object was. The gaps are closed by
+ * the removal that makes them outnumber the objects, so they cost constant time per removal over many removals.
+ * Reading the set never changes it, so it can be read from many threads at once while it is not being changed.
+ * Retrieving an object by its index goes through the set while it has gaps, which iterating over it does not.
+ *
+ * @param <E> the type of the objects in the set.
+ */
+public class IdentityOrderedSet<E> implements Iterable<E> {
+
+    // The position of each object in elements, which holds null in the gaps left by removed objects.
+    private final Map<E, Integer> positions = new IdentityHashMap<>();
+    private final List<E> elements = new ArrayList<>();
+    private int numGaps;
+    private final View view = new View();
+
+    /**
+     * Adds {@code toAdd} to the end of the set, if it is not in the set yet.
+     *
+     * @return true if the set did not contain {@code toAdd}.
+     */
+    public boolean add(E toAdd) {
+        requireNonNull(toAdd);
+        if (positions.containsKey(toAdd)) {
+            return false;
+        }
+
+        positions.put(toAdd, elements.size());
+        elements.add(toAdd);
+        view.recordModification();
+        return true;
+    }
+
+    /**
+     * Adds every element of {@code toAdd} that is not in the set yet, in order.
+     */
+    public void addAll(Collection<? extends E> toAdd) {
+        requireNonNull(toAdd);
+        toAdd.forEach(this::add);
+    }
+
+    /**
+     * Removes {@code toRemove} from the set, if it is the same object as an element of the set.
+     *
+     * @return true if the set contained {@code toRemove}.
+     */
+    public boolean remove(Object toRemove) {
+        Integer position = positions.remove(toRemove);
+        if (position == null) {
+            return false;
+        }
+
+        elements.set(position, null);
+        numGaps++;
+        if (numGaps > positions.size()) {
+            closeGaps();
+        }
+        view.recordModification();
+        return true;
+    }
+
+    private void closeGaps() {
+        int size = 0;
+        for (int i = 0; i < elements.size(); i++) {
+            E element = elements.get(i);
+            if (element != null) {
+                elements.set(size, element);
+                positions.put(element, size++);
+            }
+        }
+        elements.subList(size, elements.size()).clear();
+        numGaps = 0;
+    }
+
+    /**
+     * Returns true if {@code toCheck} is the same object as an element of the set.
+     */
+    public boolean contains(Object toCheck) {
+        return positions.containsKey(toCheck);
+    }
+
+    public int size() {
+        return positions.size();
+    }
+
+    /**
+     * Returns an unmodifiable list of the elements in the order they were added, which reflects later changes to the
+     * set and throws {@code UnsupportedOperationException} if modification is attempted.
+     */
+    public List<E> asUnmodifiableList() {
+        return view;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return view.iterator();
+    }
+
+    /**
+     * The elements of the set as a list, which iterates like an {@code ArrayList} and fails fast if the set is
+     * modified during iteration.
+     */
+    private class View extends AbstractList<E> {
+        @Override
+        public E get(int index) {
+            if (numGaps == 0) {
+                return elements.get(index);
+            }
+
+            Objects.checkIndex(index, positions.size());
+            int remaining = index;
+            for (E element : elements) {
+                if (element != null && remaining-- == 0) {
+                    return element;
+                }
+            }
+            throw new AssertionError("The set has fewer elements than it counts");
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new Iterator<>() {
+                private final int expectedModCount = modCount;
+                private int nextPosition = skipGaps(0);
+
+                @Override
+                public boolean hasNext() {
+                    return nextPosition < elements.size();
+                }
+
+                @Override
+                public E next() {
+                    if (modCount != expectedModCount) {
+                        throw new ConcurrentModificationException();
+                    }
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    E element = elements.get(nextPosition);
+                    nextPosition = skipGaps(nextPosition + 1);
+                    return element;
+                }
+            };
+        }
+
+        private int skipGaps(int position) {
+            while (position < elements.size() && elements.get(position) == null) {
+                position++;
+            }
+            return position;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            // Compares by iteration, as the list iterator of AbstractList retrieves every element by its index.
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof List<?>) || ((List<?>) other).size() != size()) {
+                return false;
+            }
+            Iterator<?> otherElements = ((List<?>) other).iterator();
+            for (E element : this) {
+                if (!Objects.equals(element, otherElements.next())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return super.hashCode();
+        }
+
+        @Override
+        public int size() {
+            return positions.size();
+        }
+
+        @Override
+        public boolean contains(Object toCheck) {
+            // Elements are usually looked up by identity, which does not need a search.
+            return positions.containsKey(toCheck) || super.contains(toCheck);
+        }
+
+        void recordModification() {
+            modCount++;
+        }
+    }
+}
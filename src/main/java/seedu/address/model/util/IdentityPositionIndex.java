@@ -0,0 +1,86 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The positions of the elements of a list, looked up by identity, so that finding an element does not have to compare
+ * it with every element of the list, as {@code List#indexOf} does.
+ * <p>
+ * Removing an element shifts the elements after it, so their positions are only recomputed the next time one of them
+ * is looked up. Replacing elements, which happens far more often, keeps every position up to date.
+ *
+ * @param <E> the type of the elements of the list.
+ */
+public class IdentityPositionIndex<E> {
+
+    private final List<E> list;
+    private final Map<E, Integer> positions = new IdentityHashMap<>();
+
+    /** The positions before this one are up to date. */
+    private int validCount;
+
+    /**
+     * Creates an index of the positions of the elements of {@code list}, which must be told of every change to it.
+     */
+    public IdentityPositionIndex(List<E> list) {
+        requireNonNull(list);
+        this.list = list;
+    }
+
+    /**
+     * Returns the position of {@code element} in the list, or -1 if it is not the same object as an element of it.
+     */
+    public int indexOf(E element) {
+        requireNonNull(element);
+        Integer position = positions.get(element);
+        if (position != null && position < validCount) {
+            return position;
+        }
+
+        if (validCount < list.size()) {
+            for (int i = validCount; i < list.size(); i++) {
+                positions.put(list.get(i), i);
+            }
+            validCount = list.size();
+            position = positions.get(element);
+        }
+        return position == null ? -1 : position;
+    }
+
+    /**
+     * Records that {@code element} was added to the end of the list.
+     */
+    public void added(E element) {
+        if (validCount == list.size() - 1) {
+            positions.put(element, validCount++);
+        }
+    }
+
+    /**
+     * Records that the element at {@code index} was replaced by {@code editedElement}.
+     */
+    public void replaced(int index, E target, E editedElement) {
+        positions.remove(target);
+        positions.put(editedElement, index);
+    }
+
+    /**
+     * Records that {@code element} was removed from {@code index}, which shifts the elements after it.
+     */
+    public void removed(int index, E element) {
+        positions.remove(element);
+        validCount = Math.min(validCount, index);
+    }
+
+    /**
+     * Records that every element of the list was replaced.
+     */
+    public void reset() {
+        positions.clear();
+        validCount = 0;
+    }
+}
@@ -0,0 +1,166 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.AddressBookFileFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Converts address book files between the formats in {@link AddressBookFileFormat}.
+ */
+public class AddressBookFileConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFileConverter.class);
+
+    /**
+     * Returns an {@code AddressBookStorage} for the address book file at {@code filePath} in the given format.
+     */
+    public static AddressBookStorage createStorage(Path filePath, AddressBookFileFormat format) {
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case SHARDED:
+            return new ShardedAddressBookStorage(filePath);
+        case JSON:
+        default:
+            return new JsonAddressBookStorage(filePath);
+        }
+    }
+
+    /**
+     * Returns an {@code AddressBookStorage} for the address book file in {@code userPrefs}, in the format in
+     * {@code userPrefs}.
+     * <p>
+     * If the address book file was saved in another format, such as after the format was changed in the preferences
+     * file, it is converted into a file of the preferred format next to it, which {@code userPrefs} is then pointed
+     * at. The original file is kept. If it cannot be converted, it is opened in the format it was saved in instead,
+     * so that it is never overwritten in another format. A path named for another format, such as the default
+     * {@code data/matchestate.json}, is renamed for the preferred format before anything is saved at it.
+     */
+    public static AddressBookStorage createStorage(UserPrefs userPrefs) {
+        requireNonNull(userPrefs);
+        Path filePath = userPrefs.getAddressBookFilePath();
+        AddressBookFileFormat format = userPrefs.getAddressBookFileFormat();
+
+        Optional<AddressBookFileFormat> savedFormat;
+        try {
+            savedFormat = detectFormat(filePath);
+        } catch (IOException ioe) {
+            logger.warning("Could not tell the format of " + filePath + ": " + ioe);
+            return createStorage(filePath, format);
+        }
+
+        Optional<AddressBookFileFormat> pathFormat = savedFormat.isPresent() ? savedFormat : getFormatOf(filePath);
+        if (pathFormat.isEmpty() || pathFormat.get() == format) {
+            return createStorage(filePath, format);
+        }
+
+        Path targetFilePath = getFilePath(filePath, format);
+        if (savedFormat.isPresent()) {
+            try {
+                convert(filePath, savedFormat.get(), targetFilePath, format);
+            } catch (DataLoadingException | IOException e) {
+                logger.warning("Could not convert " + filePath + " to " + format + ", so it is opened as "
+                        + savedFormat.get() + " instead: " + e);
+                return createStorage(filePath, savedFormat.get());
+            }
+        }
+
+        userPrefs.setAddressBookFilePath(targetFilePath);
+        return createStorage(targetFilePath, format);
+    }
+
+    /**
+     * Returns the format of the address book saved at {@code filePath}, told from what is saved there, or
+     * {@code Optional.empty()} if nothing is saved there.
+     *
+     * @throws IOException if the file could not be read.
+     */
+    public static Optional<AddressBookFileFormat> detectFormat(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (Files.isDirectory(filePath)) {
+            return Optional.of(AddressBookFileFormat.SHARDED);
+        }
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        return Optional.of(BinaryAddressBookCodec.isEncoded(filePath)
+                ? AddressBookFileFormat.BINARY
+                : AddressBookFileFormat.JSON);
+    }
+
+    /**
+     * Returns {@code filePath} with its file extension replaced by that of {@code format}.
+     */
+    public static Path getFilePath(Path filePath, AddressBookFileFormat format) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        String fileName = filePath.getFileName().toString();
+        Optional<AddressBookFileFormat> currentFormat = getFormatOf(filePath);
+        if (currentFormat.isPresent()) {
+            fileName = fileName.substring(0, fileName.length() - currentFormat.get().getFileExtension().length());
+        }
+        return filePath.resolveSibling(fileName + format.getFileExtension());
+    }
+
+    /**
+     * Returns the format whose file extension {@code filePath} has, if any.
+     */
+    private static Optional<AddressBookFileFormat> getFormatOf(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        for (AddressBookFileFormat format : AddressBookFileFormat.values()) {
+            if (!format.getFileExtension().isEmpty() && fileName.endsWith(format.getFileExtension())) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Reads the address book file at {@code sourceFilePath} in {@code sourceFormat} and saves it to
+     * {@code targetFilePath} in {@code targetFormat}.
+     *
+     * @throws DataLoadingException if the source file is missing or could not be loaded.
+     * @throws IOException if there was any problem writing to the target file.
+     */
+    public static void convert(Path sourceFilePath, AddressBookFileFormat sourceFormat,
+                               Path targetFilePath, AddressBookFileFormat targetFormat)
+            throws DataLoadingException, IOException {
+        logger.info("Converting " + sourceFormat + " file " + sourceFilePath + " to "
+                + targetFormat + " file " + targetFilePath);
+
+        ReadOnlyAddressBook addressBook = createStorage(sourceFilePath, sourceFormat).readAddressBook()
+                .orElseThrow(() -> new DataLoadingException(new NoSuchFileException(sourceFilePath.toString())));
+        createStorage(targetFilePath, targetFormat).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Converts the JSON address book file at {@code jsonFilePath} into a binary snapshot at {@code binaryFilePath}.
+     *
+     * @see #convert(Path, AddressBookFileFormat, Path, AddressBookFileFormat)
+     */
+    public static void convertJsonToBinary(Path jsonFilePath, Path binaryFilePath)
+            throws DataLoadingException, IOException {
+        convert(jsonFilePath, AddressBookFileFormat.JSON, binaryFilePath, AddressBookFileFormat.BINARY);
+    }
+
+    /**
+     * Converts the binary snapshot at {@code binaryFilePath} into a JSON address book file at {@code jsonFilePath}.
+     *
+     * @see #convert(Path, AddressBookFileFormat, Path, AddressBookFileFormat)
+     */
+    public static void convertBinaryToJson(Path binaryFilePath, Path jsonFilePath)
+            throws DataLoadingException, IOException {
+        convert(binaryFilePath, AddressBookFileFormat.BINARY, jsonFilePath, AddressBookFileFormat.JSON);
+    }
+}
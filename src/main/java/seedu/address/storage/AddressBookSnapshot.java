@@ -0,0 +1,24 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * An immutable copy of what saving an address book would write, taken so that it can be written later, possibly on
+ * another thread, while the address book continues to be modified.
+ */
+public interface AddressBookSnapshot {
+
+    /**
+     * Writes this snapshot to the storage it was taken from.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void write() throws IOException;
+
+    /**
+     * Returns a single snapshot that has the same effect as writing this snapshot followed by {@code next},
+     * or {@code Optional.empty()} if the two snapshots cannot be combined.
+     */
+    Optional<AddressBookSnapshot> coalesce(AddressBookSnapshot next);
+}
@@ -30,6 +30,12 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Returns the backup that the latest read loaded because the data file itself could not be loaded, or
+     * {@code Optional.empty()} if no backup was loaded in its place.
+     */
+    Optional<Path> getRecoveredBackupPath();
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -42,4 +48,12 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Returns a snapshot of what {@link #saveAddressBook(ReadOnlyAddressBook, Path)} would write for the given
+     * {@link ReadOnlyAddressBook}, which can be written later even if {@code addressBook} is modified in the meantime.
+     * @param addressBook cannot be null.
+     * @param filePath cannot be null.
+     */
+    AddressBookSnapshot snapshotAddressBook(ReadOnlyAddressBook addressBook, Path filePath);
+
 }
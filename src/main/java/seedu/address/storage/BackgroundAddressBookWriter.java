@@ -0,0 +1,117 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Writes {@link AddressBookSnapshot}s one at a time on a single background thread.
+ * Snapshots submitted while an earlier snapshot is being written are coalesced, so that a burst of commands results in
+ * a single write. A failed write is kept until it is reported through {@link #pollFailure()} or {@link #flush()}.
+ */
+class BackgroundAddressBookWriter {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundAddressBookWriter.class);
+    private static final String THREAD_NAME = "address-book-writer";
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Deque<AddressBookSnapshot> pendingSnapshots = new ArrayDeque<>();
+    private boolean isWriting;
+    private IOException unreportedFailure;
+
+    /**
+     * Queues {@code snapshot} to be written after all snapshots submitted before it.
+     */
+    public synchronized void submit(AddressBookSnapshot snapshot) {
+        requireNonNull(snapshot);
+
+        AddressBookSnapshot lastSnapshot = pendingSnapshots.peekLast();
+        Optional<AddressBookSnapshot> coalesced = lastSnapshot == null
+                ? Optional.empty()
+                : lastSnapshot.coalesce(snapshot);
+        if (coalesced.isPresent()) {
+            pendingSnapshots.removeLast();
+            pendingSnapshots.addLast(coalesced.get());
+        } else {
+            pendingSnapshots.addLast(snapshot);
+        }
+
+        if (!isWriting) {
+            isWriting = true;
+            executor.execute(this::writePendingSnapshots);
+        }
+    }
+
+    /**
+     * Returns the failure of the latest write that has not been reported yet, if any.
+     */
+    public synchronized Optional<IOException> pollFailure() {
+        Optional<IOException> failure = Optional.ofNullable(unreportedFailure);
+        unreportedFailure = null;
+        return failure;
+    }
+
+    /**
+     * Waits until all submitted snapshots are written.
+     *
+     * @throws IOException if the latest failed write has not been reported yet, or the wait was interrupted.
+     */
+    public synchronized void flush() throws IOException {
+        while (isWriting) {
+            try {
+                wait();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for data to be saved");
+            }
+        }
+
+        Optional<IOException> failure = pollFailure();
+        if (failure.isPresent()) {
+            throw failure.get();
+        }
+    }
+
+    private void writePendingSnapshots() {
+        while (true) {
+            AddressBookSnapshot snapshot;
+            synchronized (this) {
+                snapshot = pendingSnapshots.pollFirst();
+                if (snapshot == null) {
+                    isWriting = false;
+                    notifyAll();
+                    return;
+                }
+            }
+
+            try {
+                snapshot.write();
+            } catch (IOException ioe) {
+                recordFailure(ioe);
+            } catch (RuntimeException re) {
+                // Keeps the writer alive so that later snapshots and flush() are not stuck behind this one.
+                recordFailure(new IOException(re));
+            }
+        }
+    }
+
+    private synchronized void recordFailure(IOException ioe) {
+        logger.warning("Failed to save data in the background " + StringUtil.getDetails(ioe));
+        unreportedFailure = ioe;
+    }
+}
@@ -0,0 +1,350 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.Price;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Encodes an address book into the compact binary format and decodes it back.
+ * <p>
+ * After the {@link #MAGIC} bytes and the format {@link #VERSION}, the format consists of
+ * <ul>
+ *     <li>a string table holding every distinct string once, as its UTF-8 length followed by its bytes. Strings are
+ *     referred to everywhere else by their 1-based index in this table, with 0 for a missing string,</li>
+ *     <li>the tags, as their names,</li>
+ *     <li>the persons, as their name, phone, email and preferences,</li>
+ *     <li>the listings, with their owners referred to by their index in the persons section.</li>
+ * </ul>
+ * Every section starts with its number of entries. Counts, indices and prices are written as variable-length
+ * integers, so that small values take a single byte.
+ */
+class BinaryAddressBookCodec {
+
+    public static final int VERSION = 1;
+
+    private static final String MESSAGE_MALFORMED = "Malformed binary address book";
+    private static final byte[] MAGIC = {'M', 'E', 'S', 'B'};
+    private static final int NO_STRING = 0;
+    private static final int LOWER_PRICE_FLAG = 1;
+    private static final int UPPER_PRICE_FLAG = 2;
+
+    /**
+     * Returns true if the file at {@code filePath} starts like a file in the binary format.
+     *
+     * @throws IOException if the file could not be read.
+     */
+    public static boolean isEncoded(Path filePath) throws IOException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return Arrays.equals(in.readNBytes(MAGIC.length), MAGIC);
+        }
+    }
+
+    /**
+     * Returns {@code addressBook} encoded in the binary format.
+     */
+    public static byte[] encode(ReadOnlyAddressBook addressBook) {
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        Collection<String> tagNames = addressBook.getTagMap().keySet();
+        writeVarInt(body, tagNames.size());
+        for (String tagName : tagNames) {
+            writeString(body, stringTable, tagName);
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        Map<Person, Integer> personIndices = new IdentityHashMap<>();
+        writeVarInt(body, persons.size());
+        for (Person person : persons) {
+            personIndices.put(person, personIndices.size());
+            writeString(body, stringTable, person.getName().fullName);
+            writeString(body, stringTable, person.getPhone().value);
+            writeString(body, stringTable, person.getEmail().value);
+
+            writeVarInt(body, person.getPropertyPreferences().size());
+            for (PropertyPreference preference : person.getPropertyPreferences()) {
+                writePriceRange(body, preference.getPriceRange());
+                writeTags(body, stringTable, preference.getTags());
+            }
+        }
+
+        List<Listing> listings = addressBook.getListingList();
+        writeVarInt(body, listings.size());
+        for (Listing listing : listings) {
+            writeListing(body, stringTable, personIndices, listing);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.size() + stringTable.size() * 16);
+        out.writeBytes(MAGIC);
+        writeVarInt(out, VERSION);
+        writeVarInt(out, stringTable.size());
+        for (String string : stringTable.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(out, bytes.length);
+            out.writeBytes(bytes);
+        }
+        out.writeBytes(body.toByteArray());
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes an address book in the binary format from {@code buffer}.
+     * The address book is returned in its Jackson-friendly form, so that it is validated the same way as an address
+     * book read from a JSON file when it is converted to the model type.
+     *
+     * @throws IOException if the data is not in the binary format, or is malformed.
+     */
+    public static JsonSerializableAddressBook decode(ByteBuffer buffer) throws IOException {
+        try {
+            return decodeAddressBook(buffer.duplicate());
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException(MESSAGE_MALFORMED, e);
+        }
+    }
+
+    private static JsonSerializableAddressBook decodeAddressBook(ByteBuffer in) throws IOException {
+        byte[] magic = new byte[MAGIC.length];
+        in.get(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("Not a binary address book file");
+        }
+        int version = readVarInt(in);
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary address book version: " + version);
+        }
+
+        String[] strings = new String[readCount(in)];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[readCount(in)];
+            in.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        int numTags = readCount(in);
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        for (int i = 0; i < numTags; i++) {
+            tags.add(new JsonAdaptedTag(readString(in, strings)));
+        }
+
+        int numPersons = readCount(in);
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        String[] phones = new String[numPersons];
+        for (int i = 0; i < numPersons; i++) {
+            String name = readString(in, strings);
+            phones[i] = readString(in, strings);
+            String email = readString(in, strings);
+
+            int numPreferences = readCount(in);
+            List<JsonAdaptedPreference> preferences = new ArrayList<>();
+            for (int j = 0; j < numPreferences; j++) {
+                JsonAdaptedPriceRange priceRange = readPriceRange(in);
+                preferences.add(new JsonAdaptedPreference(priceRange, readTags(in, strings)));
+            }
+
+            persons.add(new JsonAdaptedPerson(name, phones[i], email, preferences));
+        }
+
+        int numListings = readCount(in);
+        List<JsonAdaptedListing> listings = new ArrayList<>();
+        for (int i = 0; i < numListings; i++) {
+            listings.add(readListing(in, strings, phones));
+        }
+        return new JsonSerializableAddressBook(persons, listings, tags);
+    }
+
+    //// Encoding helpers
+
+    private static void writeListing(ByteArrayOutputStream out, Map<String, Integer> stringTable,
+                                     Map<Person, Integer> personIndices, Listing listing) {
+        writeString(out, stringTable, listing.getPostalCode().postalCode);
+        writeString(out, stringTable, listing.getUnitNumber() != null ? listing.getUnitNumber().unitNumber : null);
+        writeString(out, stringTable, listing.getHouseNumber() != null ? listing.getHouseNumber().houseNumber : null);
+        writePriceRange(out, listing.getPriceRange());
+        writeString(out, stringTable, listing.getPropertyName() != null
+                ? listing.getPropertyName().propertyName : null);
+        writeTags(out, stringTable, listing.getTags());
+
+        // Owners missing from the persons list are dropped, as they are when loading the JSON format.
+        List<Integer> ownerIndices = new ArrayList<>();
+        for (Person owner : listing.getOwners()) {
+            Integer ownerIndex = personIndices.get(owner);
+            if (ownerIndex != null) {
+                ownerIndices.add(ownerIndex);
+            }
+        }
+        writeVarInt(out, ownerIndices.size());
+        for (int ownerIndex : ownerIndices) {
+            writeVarInt(out, ownerIndex);
+        }
+
+        out.write(listing.getAvailability() ? 1 : 0);
+    }
+
+    private static void writeString(ByteArrayOutputStream out, Map<String, Integer> stringTable, String string) {
+        if (string == null) {
+            writeVarInt(out, NO_STRING);
+            return;
+        }
+        writeVarInt(out, stringTable.computeIfAbsent(string, unused -> stringTable.size() + 1));
+    }
+
+    private static void writeTags(ByteArrayOutputStream out, Map<String, Integer> stringTable, Collection<Tag> tags) {
+        writeVarInt(out, tags.size());
+        for (Tag tag : tags) {
+            writeString(out, stringTable, tag.getTagName());
+        }
+    }
+
+    private static void writePriceRange(ByteArrayOutputStream out, PriceRange priceRange) {
+        int flags = (priceRange.lowerBoundPrice != null ? LOWER_PRICE_FLAG : 0)
+                | (priceRange.upperBoundPrice != null ? UPPER_PRICE_FLAG : 0);
+        out.write(flags);
+        if (priceRange.lowerBoundPrice != null) {
+            writePrice(out, priceRange.lowerBoundPrice);
+        }
+        if (priceRange.upperBoundPrice != null) {
+            writePrice(out, priceRange.upperBoundPrice);
+        }
+    }
+
+    /**
+     * Writes {@code price} as its scale and unscaled value, which always fits in a long as a valid price has at most
+     * 18 digits.
+     */
+    private static void writePrice(ByteArrayOutputStream out, Price price) {
+        BigDecimal value = price.toBigDecimal();
+        writeVarInt(out, value.scale());
+        writeVarLong(out, value.unscaledValue().longValueExact());
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        writeVarLong(out, value);
+    }
+
+    /**
+     * Writes {@code value} 7 bits at a time, least significant group first, with the high bit of each byte marking
+     * that more bytes follow. Values are non-negative, as counts, indices, scales and prices all are.
+     */
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        assert value >= 0;
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    //// Decoding helpers
+
+    private static JsonAdaptedListing readListing(ByteBuffer in, String[] strings, String[] phones)
+            throws IOException {
+        String postalCode = readString(in, strings);
+        String unitNumber = readString(in, strings);
+        String houseNumber = readString(in, strings);
+        JsonAdaptedPriceRange priceRange = readPriceRange(in);
+        String propertyName = readString(in, strings);
+        List<JsonAdaptedTag> tags = readTags(in, strings);
+
+        int numOwners = readCount(in);
+        List<String> ownerKeys = new ArrayList<>();
+        for (int i = 0; i < numOwners; i++) {
+            int ownerIndex = readVarInt(in);
+            if (ownerIndex >= phones.length) {
+                throw new IOException("Listing owner index out of range: " + ownerIndex);
+            }
+            ownerKeys.add(phones[ownerIndex]);
+        }
+
+        boolean isAvailable = in.get() != 0;
+        return new JsonAdaptedListing(postalCode, unitNumber, houseNumber, priceRange, propertyName, tags, ownerKeys,
+                isAvailable);
+    }
+
+    private static String readString(ByteBuffer in, String[] strings) throws IOException {
+        int index = readVarInt(in);
+        if (index == NO_STRING) {
+            return null;
+        }
+        if (index > strings.length) {
+            throw new IOException("String index out of range: " + index);
+        }
+        return strings[index - 1];
+    }
+
+    private static List<JsonAdaptedTag> readTags(ByteBuffer in, String[] strings) throws IOException {
+        int numTags = readCount(in);
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        for (int i = 0; i < numTags; i++) {
+            tags.add(new JsonAdaptedTag(readString(in, strings)));
+        }
+        return tags;
+    }
+
+    private static JsonAdaptedPriceRange readPriceRange(ByteBuffer in) throws IOException {
+        int flags = Byte.toUnsignedInt(in.get());
+        BigDecimal lower = (flags & LOWER_PRICE_FLAG) != 0 ? readPrice(in) : null;
+        BigDecimal upper = (flags & UPPER_PRICE_FLAG) != 0 ? readPrice(in) : null;
+        return new JsonAdaptedPriceRange(upper, lower);
+    }
+
+    private static BigDecimal readPrice(ByteBuffer in) throws IOException {
+        int scale = readVarInt(in);
+        return BigDecimal.valueOf(readVarLong(in), scale);
+    }
+
+    /**
+     * Reads the number of entries that follow, each of which takes at least one byte, so that a malformed count is
+     * noticed before anything is allocated for it.
+     */
+    private static int readCount(ByteBuffer in) throws IOException {
+        int count = readVarInt(in);
+        if (count > in.remaining()) {
+            throw new IOException(MESSAGE_MALFORMED);
+        }
+        return count;
+    }
+
+    private static int readVarInt(ByteBuffer in) throws IOException {
+        long value = readVarLong(in);
+        if (value > Integer.MAX_VALUE) {
+            throw new IOException("Value out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    private static long readVarLong(ByteBuffer in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = Byte.toUnsignedInt(in.get());
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    throw new IOException("Malformed variable-length integer");
+                }
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+}
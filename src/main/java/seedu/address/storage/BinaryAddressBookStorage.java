@@ -0,0 +1,137 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk.
+ * The whole address book is written on every save, since a binary snapshot is cheap to encode.
+ * The file is saved as a {@link GenerationalDataFile}, so a damaged file is recovered from its backups.
+ *
+ * @see BinaryAddressBookCodec
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+    private Path recoveredBackupPath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        GenerationalDataFile dataFile = new GenerationalDataFile(filePath);
+        Optional<ReadOnlyAddressBook> addressBook = dataFile.read(BinaryAddressBookStorage::readAddressBookGeneration);
+        recoveredBackupPath = dataFile.getRecoveredBackupPath().orElse(null);
+        return addressBook;
+    }
+
+    @Override
+    public Optional<Path> getRecoveredBackupPath() {
+        return Optional.ofNullable(recoveredBackupPath);
+    }
+
+    /**
+     * Reads one generation of the binary file.
+     */
+    private static ReadOnlyAddressBook readAddressBookGeneration(Path filePath) throws DataLoadingException {
+        logger.info("Binary file " + filePath + " found.");
+
+        JsonSerializableAddressBook addressBook;
+        try {
+            // The file is read into memory rather than mapped, as a mapped file cannot be replaced on some platforms
+            // until the mapping is garbage collected, which would stop the next save from rotating it.
+            addressBook = BinaryAddressBookCodec.decode(ByteBuffer.wrap(Files.readAllBytes(filePath)));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        try {
+            return addressBook.toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        snapshotAddressBook(addressBook, filePath).write();
+    }
+
+    @Override
+    public AddressBookSnapshot snapshotAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        // Every save writes the whole address book, so the recorded changes are only cleared.
+        addressBook.pollChanges();
+        return new Snapshot(filePath, BinaryAddressBookCodec.encode(addressBook));
+    }
+
+    /**
+     * The encoded bytes of a whole address book, which supersede any snapshot taken before them.
+     */
+    private static class Snapshot implements AddressBookSnapshot {
+        private final Path filePath;
+        private final byte[] bytes;
+
+        Snapshot(Path filePath, byte[] bytes) {
+            this.filePath = filePath;
+            this.bytes = bytes;
+        }
+
+        @Override
+        public void write() throws IOException {
+            new GenerationalDataFile(filePath).write(out -> out.write(bytes));
+        }
+
+        @Override
+        public Optional<AddressBookSnapshot> coalesce(AddressBookSnapshot next) {
+            if (next instanceof Snapshot && ((Snapshot) next).filePath.equals(filePath)) {
+                return Optional.of(next);
+            }
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * A data file that is saved without ever being left partially written, and that keeps its previous generations as
+ * backups to recover from if it is damaged.
+ * <p>
+ * A save writes and syncs a temporary file next to the data file, shifts the data file and its backups back by one
+ * generation, and then moves the temporary file over the data file. Each backup keeps the
+ * {@link JsonAddressBookJournal} of the data file it was, so that its journal is replayed over it when it is loaded.
+ * <p>
+ * Every save writes the length and CRC-32 checksum of the data file to a checksum file next to it, so that a damaged
+ * generation is detected without parsing it, while the data file itself holds nothing but its content. Data files
+ * without a checksum file are loaded without being checked, so deleting the checksum file of a data file that was
+ * edited by hand has it loaded as it is. When a backup is loaded in place of a damaged data file, the backup is
+ * reported, so that the user can be warned that the latest changes may be missing.
+ */
+class GenerationalDataFile {
+
+    public static final int DEFAULT_NUM_BACKUPS = 3;
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+    public static final String CHECKSUM_FILE_SUFFIX = ".checksum";
+
+    private static final Logger logger = LogsCenter.getLogger(GenerationalDataFile.class);
+
+    private static final String CHECKSUM_FORMAT = "%016x %08x\n";
+    private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
+
+    private final Path filePath;
+    private final int numBackups;
+    private Path recoveredBackupPath;
+
+    public GenerationalDataFile(Path filePath) {
+        this(filePath, DEFAULT_NUM_BACKUPS);
+    }
+
+    /**
+     * Creates a {@code GenerationalDataFile} for the data file at {@code filePath} that keeps {@code numBackups}
+     * previous generations.
+     */
+    public GenerationalDataFile(Path filePath, int numBackups) {
+        requireNonNull(filePath);
+        checkArgument(numBackups >= 0, "The number of backups cannot be negative.");
+        this.filePath = filePath;
+        this.numBackups = numBackups;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the backup {@code generation} saves before the current data file, starting from 1.
+     */
+    public Path getBackupPath(int generation) {
+        return filePath.resolveSibling(filePath.getFileName() + BACKUP_FILE_SUFFIX + generation);
+    }
+
+    private Path getTempFilePath() {
+        return filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+    }
+
+    private static Path getJournalPath(Path dataFilePath) {
+        return new JsonAddressBookJournal(dataFilePath).getFilePath();
+    }
+
+    /**
+     * Returns the path of the checksum file of the data file, or of one of its backups, at {@code dataFilePath}.
+     */
+    public static Path getChecksumPath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + CHECKSUM_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the backup that the latest {@link #read(Loader)} loaded because the data file could not be loaded, or
+     * {@code Optional.empty()} if the data file, or a save that was interrupted, was loaded.
+     */
+    public Optional<Path> getRecoveredBackupPath() {
+        return Optional.ofNullable(recoveredBackupPath);
+    }
+
+    /**
+     * Saves the content produced by {@code contentWriter} as the new generation of the data file.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void write(FileUtil.ContentWriter contentWriter) throws IOException {
+        requireNonNull(contentWriter);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = getTempFilePath();
+        // A checksum file left by an earlier save must not vouch for a temporary file that is only partly written.
+        Files.deleteIfExists(getChecksumPath(tempFilePath));
+        ChecksummedOutputStream[] content = new ChecksummedOutputStream[1];
+        FileUtil.writeAndSync(tempFilePath, out -> {
+            content[0] = new ChecksummedOutputStream(out);
+            contentWriter.writeTo(content[0]);
+            content[0].flush();
+        });
+        FileUtil.writeAndSync(getChecksumPath(tempFilePath), out -> out.write(content[0].getChecksum()));
+
+        rotateBackups();
+        // The data file is moved first, so that it is never paired with a checksum file that is not its own.
+        FileUtil.moveAtomically(tempFilePath, filePath);
+        FileUtil.moveAtomically(getChecksumPath(tempFilePath), getChecksumPath(filePath));
+    }
+
+    /**
+     * Shifts the data file and its backups back by one generation, dropping the oldest backup.
+     * A journal and a checksum file are moved before their data file, so that a data file is never paired with a
+     * journal or checksum file that is not its own.
+     */
+    private void rotateBackups() throws IOException {
+        if (!Files.exists(filePath) || numBackups == 0) {
+            Files.deleteIfExists(getJournalPath(filePath));
+            Files.deleteIfExists(getChecksumPath(filePath));
+            return;
+        }
+
+        for (int generation = numBackups; generation > 0; generation--) {
+            Path source = generation == 1 ? filePath : getBackupPath(generation - 1);
+            Path target = getBackupPath(generation);
+            if (!Files.exists(source)) {
+                continue;
+            }
+
+            moveCompanion(getJournalPath(source), getJournalPath(target));
+            moveCompanion(getChecksumPath(source), getChecksumPath(target));
+            FileUtil.moveAtomically(source, target);
+        }
+    }
+
+    /**
+     * Moves the journal or checksum file at {@code source} over {@code target}, or deletes {@code target} if there is
+     * no such file.
+     */
+    private static void moveCompanion(Path source, Path target) throws IOException {
+        if (Files.exists(source)) {
+            FileUtil.moveAtomically(source, target);
+        } else {
+            Files.deleteIfExists(target);
+        }
+    }
+
+    /**
+     * Loads the latest generation of the data file that passes its integrity check and is loaded by {@code loader}.
+     * A save that was interrupted after its temporary file was completely written is recovered from the temporary
+     * file. Returns {@code Optional.empty()} if the data file is not found.
+     *
+     * @throws DataLoadingException if no generation could be loaded, with the failure of the latest generation.
+     */
+    public <T> Optional<T> read(Loader<T> loader) throws DataLoadingException {
+        requireNonNull(loader);
+        recoveredBackupPath = null;
+
+        Path tempFilePath = getTempFilePath();
+        if (Files.exists(tempFilePath) && Files.exists(getChecksumPath(tempFilePath))) {
+            Optional<T> recovered = tryLoad(tempFilePath, loader);
+            if (recovered.isPresent()) {
+                return recovered;
+            }
+        }
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        DataLoadingException latestFailure;
+        try {
+            return Optional.of(load(filePath, loader));
+        } catch (DataLoadingException dle) {
+            latestFailure = dle;
+        }
+
+        for (int generation = 1; generation <= numBackups; generation++) {
+            Path backupPath = getBackupPath(generation);
+            if (Files.exists(backupPath)) {
+                Optional<T> recovered = tryLoad(backupPath, loader);
+                if (recovered.isPresent()) {
+                    recoveredBackupPath = backupPath;
+                    return recovered;
+                }
+            }
+        }
+
+        throw latestFailure;
+    }
+
+    private <T> Optional<T> tryLoad(Path generationPath, Loader<T> loader) {
+        try {
+            T loaded = load(generationPath, loader);
+            logger.warning("Recovered data file " + filePath + " from " + generationPath);
+            return Optional.of(loaded);
+        } catch (DataLoadingException dle) {
+            return Optional.empty();
+        }
+    }
+
+    private static <T> T load(Path generationPath, Loader<T> loader) throws DataLoadingException {
+        try {
+            verify(generationPath);
+        } catch (IOException ioe) {
+            logger.warning("Error checking data file " + generationPath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+        return loader.load(generationPath);
+    }
+
+    /**
+     * Checks the file at {@code filePath} against its checksum file. A file without a checksum file is not checked.
+     *
+     * @throws IOException if the file could not be read, or does not match its checksum file.
+     */
+    static void verify(Path filePath) throws IOException {
+        Path checksumPath = getChecksumPath(filePath);
+        if (!Files.exists(checksumPath)) {
+            return;
+        }
+
+        String expectedChecksum = new String(Files.readAllBytes(checksumPath), StandardCharsets.US_ASCII);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long length = channel.size();
+            String checksum = String.format(CHECKSUM_FORMAT, length, computeChecksum(channel, length));
+            if (!checksum.equals(expectedChecksum)) {
+                throw new IOException("Data file " + filePath + " is damaged: its length or checksum does not match "
+                        + checksumPath);
+            }
+        }
+    }
+
+    private static long computeChecksum(FileChannel channel, long length) throws IOException {
+        CRC32 checksum = new CRC32();
+        ByteBuffer buffer = ByteBuffer.allocate(CHECKSUM_BUFFER_SIZE);
+        long position = 0;
+        while (position < length) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), length - position));
+            int numRead = channel.read(buffer, position);
+            if (numRead < 0) {
+                break;
+            }
+            buffer.flip();
+            checksum.update(buffer);
+            position += numRead;
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * Loads the content of one generation of a data file.
+     */
+    @FunctionalInterface
+    interface Loader<T> {
+        /**
+         * Loads the file at {@code filePath}.
+         *
+         * @throws DataLoadingException if loading the file failed.
+         */
+        T load(Path filePath) throws DataLoadingException;
+    }
+
+    /**
+     * Passes bytes through to another stream while keeping their length and checksum.
+     */
+    private static class ChecksummedOutputStream extends FilterOutputStream {
+        private final CRC32 checksum = new CRC32();
+        private long length;
+
+        ChecksummedOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            checksum.update(b);
+            length++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            checksum.update(b, off, len);
+            length += len;
+        }
+
+        @Override
+        public void close() throws IOException {
+            // The underlying stream is closed by whoever opened it.
+            flush();
+        }
+
+        byte[] getChecksum() {
+            return String.format(CHECKSUM_FORMAT, length, checksum.getValue()).getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+}
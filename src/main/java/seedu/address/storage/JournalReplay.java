@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The persons, listings or tags put and removed by the entries of an address book journal, collapsed by their
+ * journal keys, so that the journal can be replayed over the records of the address book file one at a time as they
+ * are read.
+ * <p>
+ * A record put under the key of a record in the file takes its place. A record put after its key was removed, or
+ * put under a key that is not in the file, is added after the records in the file, in the order it was last added.
+ *
+ * @param <T> the Jackson-friendly type of the records.
+ */
+class JournalReplay<T> {
+
+    // The last record put under each changed key, or null if the key was last removed.
+    private final Map<String, T> changes = new LinkedHashMap<>();
+    private final Set<String> readdedKeys = new HashSet<>();
+    private final Set<String> replacedKeys = new HashSet<>();
+
+    /**
+     * Records that the journal put {@code record} under {@code key}.
+     */
+    public void put(String key, T record) {
+        if (changes.containsKey(key) && changes.get(key) == null) {
+            // Moves the key to the end, as putting it back into the address book did.
+            changes.remove(key);
+            readdedKeys.add(key);
+        }
+        changes.put(key, record);
+    }
+
+    /**
+     * Records that the journal removed the record under {@code key}.
+     */
+    public void remove(String key) {
+        changes.put(key, null);
+    }
+
+    /**
+     * Returns the record to read in place of {@code record}, which was read from the file under {@code key}, or null
+     * if it should be skipped.
+     */
+    public T replay(String key, T record) {
+        if (!changes.containsKey(key)) {
+            return record;
+        }
+        if (readdedKeys.contains(key)) {
+            return null;
+        }
+
+        T replacement = changes.get(key);
+        if (replacement != null) {
+            replacedKeys.add(key);
+        }
+        return replacement;
+    }
+
+    /**
+     * Returns the records put by the journal that did not take the place of a record read from the file.
+     */
+    public List<T> getAddedRecords() {
+        List<T> addedRecords = new ArrayList<>();
+        for (Map.Entry<String, T> change : changes.entrySet()) {
+            if (change.getValue() != null && !replacedKeys.contains(change.getKey())) {
+                addedRecords.add(change.getValue());
+            }
+        }
+        return addedRecords;
+    }
+}
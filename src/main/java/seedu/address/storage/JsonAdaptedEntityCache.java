@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+
+/**
+ * Caches the Jackson-friendly form of the persons and listings of an address book, so that saving the whole address
+ * book only converts the persons and listings changed since it was last saved.
+ * Tags are not cached, as they are converted straight from their names.
+ */
+class JsonAdaptedEntityCache {
+
+    private final Map<String, JsonAdaptedPerson> persons = new HashMap<>();
+    private final Map<String, JsonAdaptedListing> listings = new HashMap<>();
+    private ReadOnlyAddressBook addressBook;
+
+    /**
+     * Forgets the cached forms of the persons and listings of {@code addressBook} in {@code changes}, which must
+     * hold every change since the cache was last invalidated. Forgets everything if {@code changes} is a reset or
+     * the cache was filled from another address book.
+     */
+    public void invalidate(ReadOnlyAddressBook addressBook, AddressBookChanges changes) {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+
+        if (addressBook != this.addressBook || changes.isReset()) {
+            persons.clear();
+            listings.clear();
+            this.addressBook = addressBook;
+            return;
+        }
+
+        for (Person person : changes.getUpdatedPersons()) {
+            persons.remove(person.getPhone().value);
+        }
+        for (Person person : changes.getRemovedPersons()) {
+            persons.remove(person.getPhone().value);
+        }
+        for (Listing listing : changes.getUpdatedListings()) {
+            listings.remove(JsonAdaptedListing.getKey(listing));
+        }
+        for (Listing listing : changes.getRemovedListings()) {
+            listings.remove(JsonAdaptedListing.getKey(listing));
+        }
+    }
+
+    /**
+     * Converts {@code addressBook} into a {@code JsonSerializableAddressBook}, reusing the cached forms of the
+     * persons and listings that were not changed since they were cached.
+     * The cache must have been invalidated with every change to {@code addressBook} made since it was last used.
+     */
+    public JsonSerializableAddressBook toSerializable(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        assert addressBook == this.addressBook : "The cache was not invalidated with this address book";
+
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        for (Person person : addressBook.getPersonList()) {
+            adaptedPersons.add(getPerson(person));
+        }
+
+        List<JsonAdaptedListing> adaptedListings = new ArrayList<>();
+        for (Listing listing : addressBook.getListingList()) {
+            adaptedListings.add(getListing(listing));
+        }
+
+        List<JsonAdaptedTag> adaptedTags = addressBook.getTagMap().keySet().stream()
+                .map(JsonAdaptedTag::new)
+                .toList();
+
+        return new JsonSerializableAddressBook(adaptedPersons, adaptedListings, adaptedTags);
+    }
+
+    /**
+     * Returns the cached form of {@code person}, converting it if it is not cached.
+     */
+    public JsonAdaptedPerson getPerson(Person person) {
+        return persons.computeIfAbsent(person.getPhone().value, key -> new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns the cached form of {@code listing}, converting it if it is not cached.
+     */
+    public JsonAdaptedListing getListing(Listing listing) {
+        return listings.computeIfAbsent(JsonAdaptedListing.getKey(listing), key -> new JsonAdaptedListing(listing));
+    }
+}
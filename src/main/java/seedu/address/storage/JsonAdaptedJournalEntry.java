@@ -0,0 +1,151 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Jackson-friendly version of a single mutation recorded in the address book journal.
+ * A put entry carries the latest state of a person, listing or tag, while a remove entry carries only the key of the
+ * removed person, listing or tag.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+
+    /**
+     * Type of mutation recorded by a journal entry.
+     */
+    enum Type {
+        PUT_PERSON,
+        REMOVE_PERSON,
+        PUT_LISTING,
+        REMOVE_LISTING,
+        PUT_TAG,
+        REMOVE_TAG
+    }
+
+    private final Type type;
+    private final String key;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedListing listing;
+    private final JsonAdaptedTag tag;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("type") Type type,
+                                   @JsonProperty("key") String key,
+                                   @JsonProperty("person") JsonAdaptedPerson person,
+                                   @JsonProperty("listing") JsonAdaptedListing listing,
+                                   @JsonProperty("tag") JsonAdaptedTag tag) {
+        this.type = type;
+        this.key = key;
+        this.person = person;
+        this.listing = listing;
+        this.tag = tag;
+    }
+
+    /**
+     * Creates an entry recording the latest state of {@code person}.
+     */
+    public static JsonAdaptedJournalEntry ofPutPerson(Person person) {
+        requireNonNull(person);
+        return new JsonAdaptedJournalEntry(Type.PUT_PERSON, null, new JsonAdaptedPerson(person), null, null);
+    }
+
+    /**
+     * Creates an entry recording the removal of {@code person}.
+     */
+    public static JsonAdaptedJournalEntry ofRemovePerson(Person person) {
+        requireNonNull(person);
+        return new JsonAdaptedJournalEntry(Type.REMOVE_PERSON, person.getPhone().value, null, null, null);
+    }
+
+    /**
+     * Creates an entry recording the latest state of {@code listing}.
+     */
+    public static JsonAdaptedJournalEntry ofPutListing(Listing listing) {
+        requireNonNull(listing);
+        return new JsonAdaptedJournalEntry(Type.PUT_LISTING, null, null, new JsonAdaptedListing(listing), null);
+    }
+
+    /**
+     * Creates an entry recording the removal of {@code listing}.
+     */
+    public static JsonAdaptedJournalEntry ofRemoveListing(Listing listing) {
+        requireNonNull(listing);
+        return new JsonAdaptedJournalEntry(Type.REMOVE_LISTING, JsonAdaptedListing.getKey(listing),
+                null, null, null);
+    }
+
+    /**
+     * Creates an entry recording the addition of {@code tag}.
+     */
+    public static JsonAdaptedJournalEntry ofPutTag(Tag tag) {
+        requireNonNull(tag);
+        return new JsonAdaptedJournalEntry(Type.PUT_TAG, null, null, null, new JsonAdaptedTag(tag));
+    }
+
+    /**
+     * Creates an entry recording the removal of {@code tag}.
+     */
+    public static JsonAdaptedJournalEntry ofRemoveTag(Tag tag) {
+        requireNonNull(tag);
+        return new JsonAdaptedJournalEntry(Type.REMOVE_TAG, tag.getTagName(), null, null, null);
+    }
+
+    /**
+     * Applies this entry to the changes to the persons, listings and tags replayed from the journal so far.
+     *
+     * @throws IllegalValueException if a field required by the type of this entry is missing.
+     */
+    public void applyTo(JournalReplay<JsonAdaptedPerson> persons, JournalReplay<JsonAdaptedListing> listings,
+                        JournalReplay<JsonAdaptedTag> tags) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+
+        switch (type) {
+        case PUT_PERSON:
+            requirePresent(person, "person");
+            persons.put(person.getKey(), person);
+            break;
+        case REMOVE_PERSON:
+            persons.remove(requirePresent(key, "key"));
+            break;
+        case PUT_LISTING:
+            requirePresent(listing, "listing");
+            listings.put(listing.getKey(), listing);
+            break;
+        case REMOVE_LISTING:
+            listings.remove(requirePresent(key, "key"));
+            break;
+        case PUT_TAG:
+            requirePresent(tag, "tag");
+            tags.put(tag.getKey(), tag);
+            break;
+        case REMOVE_TAG:
+            tags.remove(requirePresent(key, "key"));
+            break;
+        default:
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+    }
+
+    private static <T> T requirePresent(T field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return field;
+    }
+}
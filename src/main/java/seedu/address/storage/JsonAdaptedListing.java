@@ -1,14 +1,15 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.listing.HouseNumber;
@@ -27,6 +28,8 @@ class JsonAdaptedListing {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Listing's %s field is missing!";
 
+    private static final String KEY_SEPARATOR = "/";
+
     private final String postalCode;
     private final String unitNumber;
     private final String houseNumber;
@@ -87,12 +90,61 @@ class JsonAdaptedListing {
     }
 
 
+    /**
+     * Returns the key identifying this listing in the journal, which is made up of the postal code and either the
+     * unit number or the house number.
+     */
+    public String getKey() {
+        return toKey(postalCode, unitNumber, houseNumber);
+    }
+
+    /**
+     * Returns the key identifying {@code listing} in the journal.
+     *
+     * @see #getKey()
+     */
+    public static String getKey(Listing listing) {
+        return toKey(listing.getPostalCode().postalCode,
+                listing.getUnitNumber() != null ? listing.getUnitNumber().unitNumber : null,
+                listing.getHouseNumber() != null ? listing.getHouseNumber().houseNumber : null);
+    }
+
+    private static String toKey(String postalCode, String unitNumber, String houseNumber) {
+        return postalCode + KEY_SEPARATOR + (unitNumber != null ? unitNumber : "")
+                + KEY_SEPARATOR + (houseNumber != null ? houseNumber : "");
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Listing} object.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Listing toModelType(AddressBook addressBook) throws IllegalValueException {
+        return toModelType(addressBook, getPersonsByPhone(addressBook.getPersonList()));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Listing} object,
+     * resolving its owners through {@code personsByPhone} instead of searching the persons in {@code addressBook}.
+     *
+     * @param personsByPhone the persons in {@code addressBook}, keyed by their phone number.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    public Listing toModelType(AddressBook addressBook, Map<String, Person> personsByPhone)
+            throws IllegalValueException {
+        Listing modelListing = toUnlinkedModelType();
+        linkAssociations(modelListing, addressBook, personsByPhone);
+        return modelListing;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Listing} object, without any
+     * tags or owners.
+     * Only reads this object, so it is safe to call concurrently for different listings.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    public Listing toUnlinkedModelType() throws IllegalValueException {
         if (postalCode == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     PostalCode.class.getSimpleName()));
@@ -132,9 +184,24 @@ class JsonAdaptedListing {
                 priceRange.toModelType(),
                 modelPropertyName,
                 new HashSet<>(),
-                getModelOwners(addressBook.getPersonList()),
+                new ArrayList<>(),
                 modelIsAvailable);
 
+        return modelListing;
+    }
+
+    /**
+     * Adds the tags from {@code addressBook} and the owners from {@code personsByPhone} to {@code modelListing},
+     * which was created by {@link #toUnlinkedModelType()}.
+     *
+     * @param personsByPhone the persons in {@code addressBook}, keyed by their phone number.
+     */
+    public void linkAssociations(Listing modelListing, AddressBook addressBook, Map<String, Person> personsByPhone)
+            throws IllegalValueException {
+        for (Person owner : getModelOwners(personsByPhone)) {
+            modelListing.addOwner(owner);
+        }
+
         for (JsonAdaptedTag jsonAdaptedTag : tags) {
             Tag tag = jsonAdaptedTag.toModelType(addressBook);
 
@@ -147,26 +214,28 @@ class JsonAdaptedListing {
         for (Person owner : modelListing.getOwners()) {
             owner.addListing(modelListing);
         }
-
-        return modelListing;
     }
 
 
-    private List<Person> getModelOwners(ObservableList<Person> personList) {
+    /**
+     * Returns {@code persons} keyed by their phone number, which is what {@code ownerKeys} refer to.
+     */
+    public static Map<String, Person> getPersonsByPhone(List<Person> persons) {
+        Map<String, Person> personsByPhone = new HashMap<>();
+        for (Person person : persons) {
+            if (person != null) {
+                personsByPhone.put(person.getPhone().value, person);
+            }
+        }
+        return personsByPhone;
+    }
+
+    private List<Person> getModelOwners(Map<String, Person> personsByPhone) {
         List<Person> owners = new ArrayList<>();
         for (String key : ownerKeys) {
-
-            for (Person person : personList) {
-                if (person == null) {
-                    continue;
-                }
-
-                if (!person.getPhone().value.equals(key)) {
-                    continue;
-                }
-
-                owners.add(person);
-
+            Person owner = personsByPhone.get(key);
+            if (owner != null) {
+                owners.add(owner);
             }
         }
         return owners;
@@ -13,6 +13,7 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.PropertyPreference;
 
 /**
  * Jackson-friendly version of {@link Person}.
@@ -52,12 +53,32 @@ class JsonAdaptedPerson {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Returns the key identifying this person in the journal, which is the phone number.
+     */
+    public String getKey() {
+        return phone;
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType(AddressBook addressBook) throws IllegalValueException {
+        Person modelPerson = toUnlinkedModelType();
+        linkPreferences(modelPerson, addressBook);
+        return modelPerson;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object, with preferences
+     * that do not have their tags yet.
+     * Only reads this object, so it is safe to call concurrently for different persons.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    public Person toUnlinkedModelType() throws IllegalValueException {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -89,9 +110,20 @@ class JsonAdaptedPerson {
         Person modelPerson = new Person(modelName, modelPhone, modelEmail, new ArrayList<>(), new ArrayList<>());
 
         for (JsonAdaptedPreference pref : preferences) {
-            modelPerson.addPropertyPreference(pref.toModelType(addressBook, modelPerson));
+            modelPerson.addPropertyPreference(pref.toUnlinkedModelType(modelPerson));
         }
 
         return modelPerson;
     }
+
+    /**
+     * Adds the tags from {@code addressBook} to the preferences of {@code modelPerson}, which was created by
+     * {@link #toUnlinkedModelType()}.
+     */
+    public void linkPreferences(Person modelPerson, AddressBook addressBook) throws IllegalValueException {
+        List<PropertyPreference> modelPreferences = modelPerson.getPropertyPreferences();
+        for (int i = 0; i < preferences.size(); i++) {
+            preferences.get(i).linkTags(modelPreferences.get(i), addressBook);
+        }
+    }
 }
@@ -44,6 +44,17 @@ class JsonAdaptedPreference {
      * Converts this Jackson-friendly adapted preference object into the model's {@code PriceRange} object.
      */
     public PropertyPreference toModelType(AddressBook addressBook, Person person) throws IllegalValueException {
+        PropertyPreference modelPreference = toUnlinkedModelType(person);
+        linkTags(modelPreference, addressBook);
+        return modelPreference;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted preference object into the model's {@code PropertyPreference} object,
+     * without any tags.
+     * Only reads this object, so it is safe to call concurrently for different preferences.
+     */
+    public PropertyPreference toUnlinkedModelType(Person person) throws IllegalValueException {
         if (priceRange == null) {
             throw new IllegalValueException("PropertyPreference's priceRange cannot be null.");
         }
@@ -56,8 +67,14 @@ class JsonAdaptedPreference {
             throw new IllegalValueException("PropertyPreference's person cannot be null.");
         }
 
-        PropertyPreference modelPreference = new PropertyPreference(priceRange.toModelType(), new HashSet<>(), person);
+        return new PropertyPreference(priceRange.toModelType(), new HashSet<>(), person);
+    }
 
+    /**
+     * Adds the tags of this preference from {@code addressBook} to {@code modelPreference}, which was created by
+     * {@link #toUnlinkedModelType(Person)}.
+     */
+    public void linkTags(PropertyPreference modelPreference, AddressBook addressBook) throws IllegalValueException {
         for (JsonAdaptedTag jsonAdaptedTag : tags) {
             Tag tag = jsonAdaptedTag.toModelType(addressBook);
 
@@ -66,8 +83,6 @@ class JsonAdaptedPreference {
 
             addressBook.setTag(tag, tag);
         }
-
-        return modelPreference;
     }
 
 }
@@ -31,8 +31,8 @@ class JsonAdaptedPriceRange {
      * Converts a given {@code PriceRange} into this class for Jackson use.
      */
     public JsonAdaptedPriceRange(PriceRange source) {
-        this.lower = source.lowerBoundPrice == null ? null : source.lowerBoundPrice.price;
-        this.upper = source.upperBoundPrice == null ? null : source.upperBoundPrice.price;
+        this.lower = source.lowerBoundPrice == null ? null : source.lowerBoundPrice.toBigDecimal();
+        this.upper = source.upperBoundPrice == null ? null : source.upperBoundPrice.toBigDecimal();
     }
 
     @JsonProperty("upper")
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.annotation.JsonValue;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagInterner;
 
 /**
  * Jackson-friendly version of {@link Tag}.
@@ -36,6 +37,13 @@ class JsonAdaptedTag {
         return tagName;
     }
 
+    /**
+     * Returns the key identifying this tag in the journal, which is the tag name in uppercase.
+     */
+    public String getKey() {
+        return tagName == null ? null : TagInterner.toKey(tagName);
+    }
+
     /**
      * Converts this Jackson-friendly adapted tag object into the model's {@code Tag} object.
      *
@@ -46,9 +54,9 @@ class JsonAdaptedTag {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
 
-        Tag tag = new Tag(tagName, new ArrayList<>(), new ArrayList<>());
-        if (addressBook.hasTag(tagName)) {
-            tag = addressBook.getTagMap().get(tagName);
+        Tag tag = addressBook.getTag(tagName);
+        if (tag == null) {
+            tag = new Tag(tagName, new ArrayList<>(), new ArrayList<>());
         }
 
         return tag;
@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * An append-only journal of address book mutations, stored next to the address book json file.
+ * Each line of the journal file holds one {@link JsonAdaptedJournalEntry}, so that a save only needs to append the
+ * persons, listings and tags changed by a command instead of rewriting the whole address book.
+ */
+class JsonAddressBookJournal {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookJournal.class);
+    private static final String LINE_SEPARATOR = "\n";
+
+    private final Path filePath;
+
+    /**
+     * Creates a {@code JsonAddressBookJournal} for the address book stored at {@code addressBookFilePath}.
+     */
+    public JsonAddressBookJournal(Path addressBookFilePath) {
+        requireNonNull(addressBookFilePath);
+        this.filePath = addressBookFilePath.resolveSibling(addressBookFilePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the entries in the journal in the order they were appended.
+     * Returns an empty list if the journal file is not found.
+     * A malformed last line is the remains of an interrupted append and is skipped.
+     *
+     * @throws DataLoadingException if the journal could not be read or a line other than the last is malformed.
+     */
+    public List<JsonAdaptedJournalEntry> read() throws DataLoadingException {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        if (!Files.exists(filePath)) {
+            return entries;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+
+            try {
+                entries.add(JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class));
+            } catch (IOException ioe) {
+                if (i < lines.size() - 1) {
+                    logger.warning("Malformed entry in journal file " + filePath + ": " + ioe);
+                    throw new DataLoadingException(ioe);
+                }
+                logger.warning("Skipping incomplete last entry in journal file " + filePath);
+            }
+        }
+
+        return entries;
+    }
+
+    /**
+     * Appends {@code entries} to the end of the journal, creating the journal file if it is missing.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void append(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        requireNonNull(entries);
+
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append(LINE_SEPARATOR);
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.appendToFile(filePath, lines.toString());
+    }
+}
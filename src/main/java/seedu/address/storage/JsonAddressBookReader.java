@@ -0,0 +1,201 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads an address book json file into the model's {@code AddressBook} while it is parsed, with its journal replayed
+ * over it, so that only a batch of persons or listings is held in their Jackson-friendly form at a time.
+ * <p>
+ * Persons are converted once the tags are read, and listings once the persons are read, which is the order
+ * {@link JsonSerializableAddressBook#writeTo} writes them in. The records of files written in another order are held
+ * until what they need is read.
+ */
+class JsonAddressBookReader {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookReader.class);
+
+    private static final String MESSAGE_LOAD_TIMINGS = "Loaded %d tags, %d persons and %d listings in %d ms";
+    private static final int BATCH_SIZE = 4096;
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String LISTINGS_FIELD = "listings";
+    private static final String TAGS_FIELD = "tags";
+
+    private final JournalReplay<JsonAdaptedPerson> personReplay = new JournalReplay<>();
+    private final JournalReplay<JsonAdaptedListing> listingReplay = new JournalReplay<>();
+    private final JournalReplay<JsonAdaptedTag> tagReplay = new JournalReplay<>();
+
+    private final AddressBook addressBook = new AddressBook();
+    private final List<JsonAdaptedTag> tags = new ArrayList<>();
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final List<JsonAdaptedListing> listings = new ArrayList<>();
+    private final Set<String> readFields = new HashSet<>();
+    private boolean areTagsRead;
+    private boolean areTagsAdded;
+    private boolean arePersonsRead;
+    // Set once the persons are all converted, as listings can only be converted after that.
+    private Map<String, Person> personsByPhone;
+
+    /**
+     * Creates a reader that replays {@code journalEntries} over the address book it reads.
+     *
+     * @throws IllegalValueException if an entry is malformed.
+     */
+    public JsonAddressBookReader(List<JsonAdaptedJournalEntry> journalEntries) throws IllegalValueException {
+        for (JsonAdaptedJournalEntry entry : journalEntries) {
+            entry.applyTo(personReplay, listingReplay, tagReplay);
+        }
+    }
+
+    /**
+     * Reads the address book from {@code parser}. Missing lists are read as empty and unknown fields are skipped.
+     *
+     * @throws IOException if the JSON is malformed or could not be read.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public AddressBook read(JsonParser parser) throws IOException, IllegalValueException {
+        long startTime = System.nanoTime();
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected the address book to be a JSON object");
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (!readFields.add(fieldName)) {
+                throw new JsonParseException(parser, "Expected " + fieldName + " to appear only once");
+            }
+
+            switch (fieldName) {
+            case TAGS_FIELD:
+                readTags(parser);
+                break;
+            case PERSONS_FIELD:
+                readPersons(parser);
+                break;
+            case LISTINGS_FIELD:
+                readListings(parser);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+
+        areTagsRead = true;
+        arePersonsRead = true;
+        convertReadRecords();
+        JsonSerializableAddressBook.addListings(addressBook, listingReplay.getAddedRecords(), personsByPhone);
+
+        logger.info(String.format(MESSAGE_LOAD_TIMINGS, addressBook.getTagMap().size(),
+                addressBook.getPersonList().size(), addressBook.getListingList().size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+        return addressBook;
+    }
+
+    private void readTags(JsonParser parser) throws IOException, IllegalValueException {
+        if (startArray(parser)) {
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                JsonAdaptedTag tag = parser.readValueAs(JsonAdaptedTag.class);
+                tag = tagReplay.replay(tag.getKey(), tag);
+                if (tag != null) {
+                    tags.add(tag);
+                }
+            }
+        }
+        areTagsRead = true;
+        convertReadRecords();
+    }
+
+    private void readPersons(JsonParser parser) throws IOException, IllegalValueException {
+        if (startArray(parser)) {
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                JsonAdaptedPerson person = parser.readValueAs(JsonAdaptedPerson.class);
+                person = personReplay.replay(person.getKey(), person);
+                if (person != null) {
+                    persons.add(person);
+                }
+                if (persons.size() >= BATCH_SIZE) {
+                    convertReadRecords();
+                }
+            }
+        }
+        arePersonsRead = true;
+        convertReadRecords();
+    }
+
+    private void readListings(JsonParser parser) throws IOException, IllegalValueException {
+        if (startArray(parser)) {
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                JsonAdaptedListing listing = parser.readValueAs(JsonAdaptedListing.class);
+                listing = listingReplay.replay(listing.getKey(), listing);
+                if (listing != null) {
+                    listings.add(listing);
+                }
+                if (listings.size() >= BATCH_SIZE) {
+                    convertReadRecords();
+                }
+            }
+        }
+        convertReadRecords();
+    }
+
+    /**
+     * Returns true if {@code parser} is at the start of an array, or false if it is at a null.
+     *
+     * @throws JsonParseException if it is at anything else.
+     */
+    private static boolean startArray(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected " + parser.getCurrentName() + " to be a JSON array");
+        }
+        return true;
+    }
+
+    /**
+     * Converts the records held so far that can be converted, and adds them to the address book.
+     * The records put by the journal are added after the records read from the file.
+     */
+    private void convertReadRecords() throws IllegalValueException {
+        if (!areTagsRead) {
+            return;
+        }
+        if (!areTagsAdded) {
+            tags.addAll(tagReplay.getAddedRecords());
+            JsonSerializableAddressBook.addTags(addressBook, tags);
+            tags.clear();
+            areTagsAdded = true;
+        }
+
+        JsonSerializableAddressBook.addPersons(addressBook, persons);
+        persons.clear();
+        if (!arePersonsRead) {
+            return;
+        }
+        if (personsByPhone == null) {
+            JsonSerializableAddressBook.addPersons(addressBook, personReplay.getAddedRecords());
+            personsByPhone = JsonAdaptedListing.getPersonsByPhone(addressBook.getPersonList());
+        }
+
+        JsonSerializableAddressBook.addListings(addressBook, listings, personsByPhone);
+        listings.clear();
+    }
+}
@@ -4,24 +4,47 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * Once the whole address book has been saved, later saves only append the changed persons, listings and tags to a
+ * {@link JsonAddressBookJournal} next to the json file. The journal is compacted back into the json file when it
+ * grows past {@link #MAX_JOURNAL_ENTRIES} entries, which only converts the persons and listings changed since the
+ * previous save, with the help of a {@link JsonAdaptedEntityCache}.
+ * The json file is saved as a {@link GenerationalDataFile}, so a damaged json file is recovered from its backups.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final int MAX_JOURNAL_ENTRIES = 1000;
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private Path recoveredBackupPath;
+    private final JsonAdaptedEntityCache entityCache = new JsonAdaptedEntityCache();
+
+    // The address book and file last saved in full, which the journal appends to.
+    private ReadOnlyAddressBook syncedAddressBook;
+    private Path syncedFilePath;
+    private int numJournalEntries;
+    private int numWriteFailures;
 
     public JsonAddressBookStorage(Path filePath) {
         this.filePath = filePath;
@@ -45,20 +68,49 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
+        GenerationalDataFile dataFile = new GenerationalDataFile(filePath);
+        Optional<ReadOnlyAddressBook> addressBook = dataFile.read(JsonAddressBookStorage::readAddressBookGeneration);
+        recoveredBackupPath = dataFile.getRecoveredBackupPath().orElse(null);
+        return addressBook;
+    }
+
+    @Override
+    public Optional<Path> getRecoveredBackupPath() {
+        return Optional.ofNullable(recoveredBackupPath);
+    }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+    /**
+     * Reads one generation of the address book json file, with its journal replayed over it.
+     * The persons and listings are converted while the json file is streamed in, a batch at a time.
+     */
+    private static ReadOnlyAddressBook readAddressBookGeneration(Path filePath) throws DataLoadingException {
+        List<JsonAdaptedJournalEntry> journalEntries = new JsonAddressBookJournal(filePath).read();
+        logger.info("JSON file " + filePath + " found.");
+
+        try (JsonParser parser = JsonUtil.createJsonFileParser(filePath)) {
+            return new JsonAddressBookReader(journalEntries).read(parser);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * Streams {@code addressBook} out to the json file at {@code filePath}, one person, listing and tag at a time.
+     * The previous json file is kept as a backup, along with its journal.
+     */
+    private static void writeJsonAddressBook(JsonSerializableAddressBook addressBook, Path filePath)
+            throws IOException {
+        new GenerationalDataFile(filePath).write(out -> {
+            try (JsonGenerator generator = JsonUtil.createJsonGenerator(out)) {
+                addressBook.writeTo(generator);
+            }
+        });
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -70,11 +122,131 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      * @param filePath location of the data. Cannot be null.
      */
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        snapshotAddressBook(addressBook, filePath).write();
+    }
+
+    @Override
+    public synchronized AddressBookSnapshot snapshotAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        AddressBookChanges changes = addressBook.pollChanges();
+        entityCache.invalidate(addressBook, changes);
+        if (changes.isReset() || addressBook != syncedAddressBook || !filePath.equals(syncedFilePath)
+                || numJournalEntries + changes.size() > MAX_JOURNAL_ENTRIES) {
+            syncedAddressBook = addressBook;
+            syncedFilePath = filePath;
+            numJournalEntries = 0;
+            return new Snapshot(filePath, entityCache.toSerializable(addressBook), new ArrayList<>());
+        }
+
+        List<JsonAdaptedJournalEntry> entries = toJournalEntries(changes);
+        numJournalEntries += entries.size();
+        return new Snapshot(filePath, null, entries);
+    }
+
+    /**
+     * Records that a snapshot could not be written, so the changes it held are lost and the next save has to
+     * rewrite the whole address book.
+     */
+    private synchronized void handleWriteFailure() {
+        syncedAddressBook = null;
+        syncedFilePath = null;
+        numWriteFailures++;
     }
 
+    private synchronized int getNumWriteFailures() {
+        return numWriteFailures;
+    }
+
+    private static List<JsonAdaptedJournalEntry> toJournalEntries(AddressBookChanges changes) {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        for (Person person : changes.getRemovedPersons()) {
+            entries.add(JsonAdaptedJournalEntry.ofRemovePerson(person));
+        }
+        for (Person person : changes.getUpdatedPersons()) {
+            entries.add(JsonAdaptedJournalEntry.ofPutPerson(person));
+        }
+        for (Listing listing : changes.getRemovedListings()) {
+            entries.add(JsonAdaptedJournalEntry.ofRemoveListing(listing));
+        }
+        for (Listing listing : changes.getUpdatedListings()) {
+            entries.add(JsonAdaptedJournalEntry.ofPutListing(listing));
+        }
+        for (Tag tag : changes.getRemovedTags()) {
+            entries.add(JsonAdaptedJournalEntry.ofRemoveTag(tag));
+        }
+        for (Tag tag : changes.getUpdatedTags()) {
+            entries.add(JsonAdaptedJournalEntry.ofPutTag(tag));
+        }
+        return entries;
+    }
+
+    /**
+     * A snapshot of the whole address book and/or journal entries to append after it.
+     * A snapshot of journal entries only is dropped if an earlier write failed after it was taken, since the journal
+     * it appends to may be incomplete.
+     */
+    private class Snapshot implements AddressBookSnapshot {
+        private final Path filePath;
+        private final JsonSerializableAddressBook addressBook;
+        private final List<JsonAdaptedJournalEntry> journalEntries;
+        private final int numWriteFailuresWhenTaken;
+
+        Snapshot(Path filePath, JsonSerializableAddressBook addressBook,
+                 List<JsonAdaptedJournalEntry> journalEntries) {
+            this(filePath, addressBook, journalEntries, getNumWriteFailures());
+        }
+
+        private Snapshot(Path filePath, JsonSerializableAddressBook addressBook,
+                         List<JsonAdaptedJournalEntry> journalEntries, int numWriteFailuresWhenTaken) {
+            this.filePath = filePath;
+            this.addressBook = addressBook;
+            this.journalEntries = journalEntries;
+            this.numWriteFailuresWhenTaken = numWriteFailuresWhenTaken;
+        }
+
+        @Override
+        public void write() throws IOException {
+            if (addressBook == null && numWriteFailuresWhenTaken != getNumWriteFailures()) {
+                logger.info("Skipping " + journalEntries.size() + " journal entries taken before a failed save");
+                return;
+            }
+
+            try {
+                if (addressBook != null) {
+                    writeJsonAddressBook(addressBook, filePath);
+                }
+                if (!journalEntries.isEmpty()) {
+                    new JsonAddressBookJournal(filePath).append(journalEntries);
+                }
+            } catch (IOException ioe) {
+                handleWriteFailure();
+                throw ioe;
+            }
+        }
+
+        @Override
+        public Optional<AddressBookSnapshot> coalesce(AddressBookSnapshot next) {
+            if (!(next instanceof Snapshot)) {
+                return Optional.empty();
+            }
+
+            Snapshot nextSnapshot = (Snapshot) next;
+            if (nextSnapshot.getStorage() != getStorage() || !nextSnapshot.filePath.equals(filePath)) {
+                return Optional.empty();
+            }
+            if (nextSnapshot.addressBook != null) {
+                return Optional.of(nextSnapshot);
+            }
+
+            List<JsonAdaptedJournalEntry> coalescedEntries = new ArrayList<>(journalEntries);
+            coalescedEntries.addAll(nextSnapshot.journalEntries);
+            return Optional.of(new Snapshot(filePath, addressBook, coalescedEntries, numWriteFailuresWhenTaken));
+        }
+
+        private JsonAddressBookStorage getStorage() {
+            return JsonAddressBookStorage.this;
+        }
+    }
 }
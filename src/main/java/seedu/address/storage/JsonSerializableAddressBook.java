@@ -1,14 +1,25 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -24,6 +35,18 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
     public static final String MESSAGE_DUPLICATE_LISTING = "Listings list contains duplicate listing(s).";
 
+    private static final Logger logger = LogsCenter.getLogger(JsonSerializableAddressBook.class);
+
+    private static final String MESSAGE_LOAD_TIMINGS =
+            "Loaded %d tags in %d ms, %d persons in %d ms and %d listings in %d ms";
+    // Lists shorter than this are converted on the calling thread, where splitting them is not worth the overhead.
+    private static final int PARALLEL_THRESHOLD = 2048;
+    private static final int CHUNK_SIZE = 512;
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String LISTINGS_FIELD = "listings";
+    private static final String TAGS_FIELD = "tags";
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedListing> listings = new ArrayList<>();
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
@@ -33,9 +56,9 @@ class JsonSerializableAddressBook {
      * Constructs a {@code JsonSerializableAddressBook} with the given persons.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
-                                       @JsonProperty("listings") List<JsonAdaptedListing> listings,
-                                       @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+    public JsonSerializableAddressBook(@JsonProperty(PERSONS_FIELD) List<JsonAdaptedPerson> persons,
+                                       @JsonProperty(LISTINGS_FIELD) List<JsonAdaptedListing> listings,
+                                       @JsonProperty(TAGS_FIELD) List<JsonAdaptedTag> tags) {
         this.persons.addAll(persons);
         this.listings.addAll(listings);
         this.tags.addAll(tags);
@@ -52,6 +75,91 @@ class JsonSerializableAddressBook {
         tags.addAll(source.getTagMap().keySet().stream().map(JsonAdaptedTag::new).toList());
     }
 
+    private JsonSerializableAddressBook() {}
+
+    List<JsonAdaptedPerson> getPersons() {
+        return Collections.unmodifiableList(persons);
+    }
+
+    List<JsonAdaptedListing> getListings() {
+        return Collections.unmodifiableList(listings);
+    }
+
+    List<JsonAdaptedTag> getTags() {
+        return Collections.unmodifiableList(tags);
+    }
+
+    /**
+     * Reads a {@code JsonSerializableAddressBook} from {@code parser} one person, listing and tag at a time,
+     * so that the JSON text of the whole address book is never held in memory.
+     * Missing lists are read as empty and unknown fields are skipped.
+     *
+     * @throws IOException if the JSON is malformed or could not be read.
+     */
+    public static JsonSerializableAddressBook readFrom(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected the address book to be a JSON object");
+        }
+
+        JsonSerializableAddressBook addressBook = new JsonSerializableAddressBook();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case PERSONS_FIELD:
+                readArray(parser, JsonAdaptedPerson.class, addressBook.persons);
+                break;
+            case LISTINGS_FIELD:
+                readArray(parser, JsonAdaptedListing.class, addressBook.listings);
+                break;
+            case TAGS_FIELD:
+                readArray(parser, JsonAdaptedTag.class, addressBook.tags);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+
+        return addressBook;
+    }
+
+    private static <T> void readArray(JsonParser parser, Class<T> elementClass, List<T> elements) throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected " + parser.getCurrentName() + " to be a JSON array");
+        }
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            elements.add(parser.readValueAs(elementClass));
+        }
+    }
+
+    /**
+     * Writes this address book to {@code generator} one person, listing and tag at a time,
+     * so that the JSON text of the whole address book is never held in memory.
+     * The tags are written before the persons, and the persons before the listings, so that a
+     * {@link JsonAddressBookReader} can convert each of them as soon as it is read.
+     *
+     * @throws IOException if the JSON could not be written.
+     */
+    public void writeTo(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        writeArray(generator, TAGS_FIELD, tags);
+        writeArray(generator, PERSONS_FIELD, persons);
+        writeArray(generator, LISTINGS_FIELD, listings);
+        generator.writeEndObject();
+    }
+
+    private static void writeArray(JsonGenerator generator, String fieldName, List<?> elements) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (Object element : elements) {
+            generator.writeObject(element);
+        }
+        generator.writeEndArray();
+    }
+
     /**
      * Converts this address book into the model's {@code AddressBook} object.
      *
@@ -59,22 +167,38 @@ class JsonSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        addTags(addressBook);
-        addPersons(addressBook);
-        addListings(addressBook);
+
+        long startTime = System.nanoTime();
+        addTags(addressBook, tags);
+        long tagsLoadedTime = System.nanoTime();
+        addPersons(addressBook, persons);
+        long personsLoadedTime = System.nanoTime();
+        addListings(addressBook, listings, JsonAdaptedListing.getPersonsByPhone(addressBook.getPersonList()));
+        long listingsLoadedTime = System.nanoTime();
+
+        logger.info(String.format(MESSAGE_LOAD_TIMINGS,
+                tags.size(), toMillis(tagsLoadedTime - startTime),
+                persons.size(), toMillis(personsLoadedTime - tagsLoadedTime),
+                listings.size(), toMillis(listingsLoadedTime - personsLoadedTime)));
 
         return addressBook;
     }
 
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
     /**
-     * Creates and returns a list of Person objects from the JSON-adapted persons.
+     * Creates Person objects from {@code persons} and adds them to the AddressBook, which must have their tags.
      *
      * @throws IllegalValueException If there are duplicate persons.
      */
-    private void addPersons(AddressBook addressBook) throws IllegalValueException {
+    static void addPersons(AddressBook addressBook, List<JsonAdaptedPerson> persons) throws IllegalValueException {
+        List<Person> modelPersons = convertAll(persons, JsonAdaptedPerson::toUnlinkedModelType);
 
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType(addressBook);
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = modelPersons.get(i);
+            persons.get(i).linkPreferences(person, addressBook);
 
             if (addressBook.hasPerson(person)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
@@ -85,15 +209,20 @@ class JsonSerializableAddressBook {
     }
 
     /**
-     * Creates Listing objects from the JSON-adapted listings and adds them to the AddressBook.
+     * Creates Listing objects from {@code listings} and adds them to the AddressBook.
      *
-     * @param addressBook The AddressBook to add the listings to and get owners.
+     * @param addressBook The AddressBook to add the listings to.
+     * @param personsByPhone The persons of the AddressBook by phone, which resolves owners with a single index
+     *     instead of searching all persons for every owner of every listing.
      * @throws IllegalValueException If there are duplicate listings.
      */
-    private void addListings(AddressBook addressBook)
-            throws IllegalValueException {
-        for (JsonAdaptedListing jsonAdaptedListing : listings) {
-            Listing listing = jsonAdaptedListing.toModelType(addressBook);
+    static void addListings(AddressBook addressBook, List<JsonAdaptedListing> listings,
+                            Map<String, Person> personsByPhone) throws IllegalValueException {
+        List<Listing> modelListings = convertAll(listings, JsonAdaptedListing::toUnlinkedModelType);
+
+        for (int i = 0; i < listings.size(); i++) {
+            Listing listing = modelListings.get(i);
+            listings.get(i).linkAssociations(listing, addressBook, personsByPhone);
             if (addressBook.hasListing(listing)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_LISTING);
             }
@@ -101,10 +230,52 @@ class JsonSerializableAddressBook {
         }
     }
 
+    /**
+     * Converts every element of {@code sources} with {@code converter}, in chunks that run in parallel on the
+     * common fork-join pool when there are enough elements to make it worthwhile.
+     * If several elements fail to convert, the failure of the earliest one is thrown, as it would be sequentially.
+     *
+     * @return the converted elements, in the same order as {@code sources}.
+     */
+    private static <T, R> List<R> convertAll(List<T> sources, Converter<T, R> converter)
+            throws IllegalValueException {
+        int numChunks = sources.size() < PARALLEL_THRESHOLD ? 1 : (sources.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        int chunkSize = numChunks == 1 ? sources.size() : CHUNK_SIZE;
+        List<R> results = new ArrayList<>(Collections.nCopies(sources.size(), null));
+        IllegalValueException[] chunkFailures = new IllegalValueException[numChunks];
+
+        IntStream.range(0, numChunks).parallel().forEach(chunk -> {
+            int end = Math.min(sources.size(), (chunk + 1) * chunkSize);
+            for (int i = chunk * chunkSize; i < end; i++) {
+                try {
+                    results.set(i, converter.convert(sources.get(i)));
+                } catch (IllegalValueException ive) {
+                    chunkFailures[chunk] = ive;
+                    return;
+                }
+            }
+        });
+
+        for (IllegalValueException failure : chunkFailures) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Converts a JSON-adapted element into a model object, without touching any shared state.
+     */
+    @FunctionalInterface
+    private interface Converter<T, R> {
+        R convert(T source) throws IllegalValueException;
+    }
+
     /**
      * Adds tags from the JSON-adapted tags to the AddressBook.
      */
-    private void addTags(AddressBook addressBook) throws IllegalValueException {
+    static void addTags(AddressBook addressBook, List<JsonAdaptedTag> tags) {
         Set<String> tagList = new HashSet<>();
         for (JsonAdaptedTag jsonAdaptedTag : tags) {
             tagList.add(jsonAdaptedTag.getTagName());
@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly manifest of an address book stored by {@link ShardedAddressBookStorage}.
+ * Records the number of shards the persons and listings are spread over, and the journal keys of the persons and
+ * listings in the order they appear in the address book.
+ */
+class JsonShardManifest {
+
+    private final int numShards;
+    private final List<String> persons;
+    private final List<String> listings;
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given number of shards and keys.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("numShards") int numShards,
+                             @JsonProperty("persons") List<String> persons,
+                             @JsonProperty("listings") List<String> listings) {
+        this.numShards = numShards;
+        this.persons = persons != null ? persons : new ArrayList<>();
+        this.listings = listings != null ? listings : new ArrayList<>();
+    }
+
+    public int getNumShards() {
+        return numShards;
+    }
+
+    public List<String> getPersons() {
+        return persons;
+    }
+
+    public List<String> getListings() {
+        return listings;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof JsonShardManifest)) {
+            return false;
+        }
+
+        JsonShardManifest otherManifest = (JsonShardManifest) other;
+        return numShards == otherManifest.numShards
+                && persons.equals(otherManifest.persons)
+                && listings.equals(otherManifest.listings);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(numShards, persons, listings);
+    }
+}
@@ -0,0 +1,438 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a directory of json files on the hard disk.
+ * Persons and listings are spread over shards by the hash of their journal keys, and tags are kept in a file of their
+ * own. A manifest records the order of the persons and listings. A save only rewrites the shards holding the persons,
+ * listings or tags changed since the previous save, and the manifest only if persons or listings were added or
+ * removed. Only the changed persons and listings are gone through, unless the whole address book is saved. The files
+ * are read in parallel.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_NUM_SHARDS = 16;
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String TAGS_FILE_NAME = "tags.json";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private static final String PERSONS_SHARD_PREFIX = "persons-";
+    private static final String LISTINGS_SHARD_PREFIX = "listings-";
+    private static final String SHARD_SUFFIX = ".json";
+
+    private Path directoryPath;
+    private final int numShards;
+    private final JsonAdaptedEntityCache entityCache = new JsonAdaptedEntityCache();
+
+    // The address book and directory last saved in full, which later saves only rewrite the changed shards of.
+    private ReadOnlyAddressBook syncedAddressBook;
+    private Path syncedDirectoryPath;
+    private final ShardedRecords<Person, JsonAdaptedPerson> persons =
+            new ShardedRecords<>(person -> person.getPhone().value, entityCache::getPerson);
+    private final ShardedRecords<Listing, JsonAdaptedListing> listings =
+            new ShardedRecords<>(JsonAdaptedListing::getKey, entityCache::getListing);
+
+    public ShardedAddressBookStorage(Path directoryPath) {
+        this(directoryPath, DEFAULT_NUM_SHARDS);
+    }
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} that spreads the persons and listings over {@code numShards} files
+     * each.
+     */
+    public ShardedAddressBookStorage(Path directoryPath, int numShards) {
+        checkArgument(numShards > 0, "There must be at least one shard.");
+        this.directoryPath = directoryPath;
+        this.numShards = numShards;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return directoryPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(directoryPath);
+    }
+
+    @Override
+    public Optional<Path> getRecoveredBackupPath() {
+        // Shards keep no backups, so a damaged shard fails to load instead.
+        return Optional.empty();
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param directoryPath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path directoryPath) throws DataLoadingException {
+        requireNonNull(directoryPath);
+
+        Optional<JsonShardManifest> manifest = readManifest(directoryPath);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+        logger.info("Sharded address book " + directoryPath + " found.");
+
+        List<Path> shardPaths = new ArrayList<>();
+        shardPaths.add(directoryPath.resolve(TAGS_FILE_NAME));
+        for (int shard = 0; shard < manifest.get().getNumShards(); shard++) {
+            shardPaths.add(getShardPath(directoryPath, PERSONS_SHARD_PREFIX, shard));
+            shardPaths.add(getShardPath(directoryPath, LISTINGS_SHARD_PREFIX, shard));
+        }
+        List<JsonSerializableAddressBook> shards = readShards(shardPaths);
+
+        try {
+            return Optional.of(merge(manifest.get(), shards).toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directoryPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private static Optional<JsonShardManifest> readManifest(Path directoryPath) throws DataLoadingException {
+        return new GenerationalDataFile(directoryPath.resolve(MANIFEST_FILE_NAME), 0).read(filePath ->
+                JsonUtil.readJsonFile(filePath, JsonShardManifest.class).get());
+    }
+
+    /**
+     * Reads the shards at {@code shardPaths} in parallel, in the same order. Missing shards are read as empty.
+     * If several shards fail to load, the failure of the earliest one is thrown.
+     */
+    private static List<JsonSerializableAddressBook> readShards(List<Path> shardPaths) throws DataLoadingException {
+        List<JsonSerializableAddressBook> shards = new ArrayList<>(Collections.nCopies(shardPaths.size(), null));
+        DataLoadingException[] failures = new DataLoadingException[shardPaths.size()];
+
+        IntStream.range(0, shardPaths.size()).parallel().forEach(i -> {
+            try {
+                shards.set(i, readShard(shardPaths.get(i)));
+            } catch (DataLoadingException dle) {
+                failures[i] = dle;
+            }
+        });
+
+        for (DataLoadingException failure : failures) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+        return shards;
+    }
+
+    private static JsonSerializableAddressBook readShard(Path shardPath) throws DataLoadingException {
+        GenerationalDataFile shardFile = new GenerationalDataFile(shardPath, 0);
+        Optional<JsonSerializableAddressBook> shard = shardFile.read(filePath -> {
+            try (JsonParser parser = JsonUtil.createJsonFileParser(filePath)) {
+                return JsonSerializableAddressBook.readFrom(parser);
+            } catch (IOException ioe) {
+                logger.warning("Error reading from shard " + filePath + ": " + ioe);
+                throw new DataLoadingException(ioe);
+            }
+        });
+        return shard.orElseGet(() -> new JsonSerializableAddressBook(List.of(), List.of(), List.of()));
+    }
+
+    /**
+     * Combines {@code shards} into a single address book, with the persons and listings in the order recorded in
+     * {@code manifest}. Persons and listings missing from the manifest, which are left behind if a save was
+     * interrupted before the manifest was rewritten, are put after the rest.
+     */
+    private static JsonSerializableAddressBook merge(JsonShardManifest manifest,
+                                                     List<JsonSerializableAddressBook> shards) {
+        Map<String, JsonAdaptedPerson> personsByKey = new LinkedHashMap<>();
+        Map<String, JsonAdaptedListing> listingsByKey = new LinkedHashMap<>();
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        for (JsonSerializableAddressBook shard : shards) {
+            shard.getPersons().forEach(person -> personsByKey.put(person.getKey(), person));
+            shard.getListings().forEach(listing -> listingsByKey.put(listing.getKey(), listing));
+            tags.addAll(shard.getTags());
+        }
+
+        return new JsonSerializableAddressBook(inOrder(manifest.getPersons(), personsByKey),
+                inOrder(manifest.getListings(), listingsByKey), tags);
+    }
+
+    private static <T> List<T> inOrder(List<String> orderedKeys, Map<String, T> elementsByKey) {
+        List<T> elements = new ArrayList<>();
+        for (String key : orderedKeys) {
+            T element = elementsByKey.remove(key);
+            if (element != null) {
+                elements.add(element);
+            }
+        }
+        elements.addAll(elementsByKey.values());
+        return elements;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, directoryPath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param directoryPath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path directoryPath) throws IOException {
+        snapshotAddressBook(addressBook, directoryPath).write();
+    }
+
+    @Override
+    public synchronized AddressBookSnapshot snapshotAddressBook(ReadOnlyAddressBook addressBook,
+                                                                Path directoryPath) {
+        requireNonNull(addressBook);
+        requireNonNull(directoryPath);
+
+        AddressBookChanges changes = addressBook.pollChanges();
+        entityCache.invalidate(addressBook, changes);
+        boolean isFullSave = changes.isReset() || addressBook != syncedAddressBook
+                || !directoryPath.equals(syncedDirectoryPath);
+
+        Set<Integer> changedPersonShards = new TreeSet<>();
+        Set<Integer> changedListingShards = new TreeSet<>();
+        boolean isManifestChanged;
+        if (isFullSave) {
+            persons.reset(addressBook.getPersonList());
+            listings.reset(addressBook.getListingList());
+            IntStream.range(0, numShards).forEach(shard -> {
+                changedPersonShards.add(shard);
+                changedListingShards.add(shard);
+            });
+            isManifestChanged = true;
+        } else {
+            boolean arePersonKeysChanged = persons.update(changes.getUpdatedPersons(), changes.getRemovedPersons(),
+                    addressBook.getPersonList(), changedPersonShards);
+            boolean areListingKeysChanged = listings.update(changes.getUpdatedListings(),
+                    changes.getRemovedListings(), addressBook.getListingList(), changedListingShards);
+            isManifestChanged = arePersonKeysChanged || areListingKeysChanged;
+        }
+
+        Map<Path, FileUtil.ContentWriter> files = new LinkedHashMap<>();
+        for (int shard : changedPersonShards) {
+            files.put(getShardPath(directoryPath, PERSONS_SHARD_PREFIX, shard),
+                    toContent(new JsonSerializableAddressBook(persons.getRecords(shard), List.of(), List.of())));
+        }
+        for (int shard : changedListingShards) {
+            files.put(getShardPath(directoryPath, LISTINGS_SHARD_PREFIX, shard),
+                    toContent(new JsonSerializableAddressBook(List.of(), listings.getRecords(shard), List.of())));
+        }
+        if (isFullSave || !changes.getUpdatedTags().isEmpty() || !changes.getRemovedTags().isEmpty()) {
+            List<JsonAdaptedTag> tags = addressBook.getTagMap().keySet().stream().map(JsonAdaptedTag::new).toList();
+            files.put(directoryPath.resolve(TAGS_FILE_NAME),
+                    toContent(new JsonSerializableAddressBook(List.of(), List.of(), tags)));
+        }
+
+        // The manifest is written last, so that it only refers to persons and listings that were written before it.
+        if (isManifestChanged) {
+            JsonShardManifest manifest = new JsonShardManifest(numShards, persons.getKeys(), listings.getKeys());
+            files.put(directoryPath.resolve(MANIFEST_FILE_NAME), out -> {
+                try (JsonGenerator generator = JsonUtil.createJsonGenerator(out)) {
+                    generator.writeObject(manifest);
+                }
+            });
+        }
+
+        syncedAddressBook = addressBook;
+        syncedDirectoryPath = directoryPath;
+        return new Snapshot(files);
+    }
+
+    /**
+     * Records that a snapshot could not be written, so the next save has to rewrite every shard.
+     */
+    private synchronized void handleWriteFailure() {
+        syncedAddressBook = null;
+        syncedDirectoryPath = null;
+    }
+
+    private int getShard(String key) {
+        return Math.floorMod(key.hashCode(), numShards);
+    }
+
+    private static Path getShardPath(Path directoryPath, String prefix, int shard) {
+        return directoryPath.resolve(prefix + shard + SHARD_SUFFIX);
+    }
+
+    private static FileUtil.ContentWriter toContent(JsonSerializableAddressBook shard) {
+        return out -> {
+            try (JsonGenerator generator = JsonUtil.createJsonGenerator(out)) {
+                shard.writeTo(generator);
+            }
+        };
+    }
+
+    /**
+     * The persons or listings of each shard as they were last saved, in their Jackson-friendly form, and their keys in
+     * the order of the address book. They are kept current with the changes to the address book, so that a save only
+     * goes through the changed persons or listings and the shards holding them.
+     *
+     * @param <T> the type of the persons or listings.
+     * @param <R> the Jackson-friendly type of the persons or listings.
+     */
+    private class ShardedRecords<T, R> {
+        private final Function<T, String> toKey;
+        private final Function<T, R> toAdapted;
+        private final List<Map<String, R>> shards = new ArrayList<>();
+        private final Set<String> keys = new LinkedHashSet<>();
+
+        ShardedRecords(Function<T, String> toKey, Function<T, R> toAdapted) {
+            this.toKey = toKey;
+            this.toAdapted = toAdapted;
+        }
+
+        /**
+         * Replaces the records of every shard with {@code records}.
+         */
+        void reset(List<T> records) {
+            shards.clear();
+            for (int shard = 0; shard < numShards; shard++) {
+                shards.add(new LinkedHashMap<>());
+            }
+            keys.clear();
+            for (T record : records) {
+                String key = toKey.apply(record);
+                shards.get(getShard(key)).put(key, toAdapted.apply(record));
+                keys.add(key);
+            }
+        }
+
+        /**
+         * Puts the {@code updated} records into their shards and removes the {@code removed} ones, adding the shards
+         * they are in to {@code changedShards}. {@code records} are all the records after the changes.
+         *
+         * @return true if a key was added or removed.
+         */
+        boolean update(Collection<T> updated, Collection<T> removed, List<T> records, Set<Integer> changedShards) {
+            for (T record : removed) {
+                String key = toKey.apply(record);
+                shards.get(getShard(key)).remove(key);
+                keys.remove(key);
+                changedShards.add(getShard(key));
+            }
+
+            List<String> addedKeys = new ArrayList<>();
+            for (T record : updated) {
+                String key = toKey.apply(record);
+                if (shards.get(getShard(key)).put(key, toAdapted.apply(record)) == null) {
+                    addedKeys.add(key);
+                }
+                changedShards.add(getShard(key));
+            }
+            keys.addAll(addedKeys);
+
+            // Added records are appended to the address book, but a record whose key was changed by an edit stays in
+            // the place of the record with the old key, so the order of the keys is only taken again from records
+            // then.
+            boolean isOrderKept = keys.size() == records.size()
+                    && (addedKeys.isEmpty() || removed.isEmpty() && isAppended(addedKeys, records));
+            if (!isOrderKept) {
+                keys.clear();
+                records.forEach(record -> keys.add(toKey.apply(record)));
+            }
+            return !addedKeys.isEmpty() || !removed.isEmpty();
+        }
+
+        private boolean isAppended(List<String> addedKeys, List<T> records) {
+            int start = records.size() - addedKeys.size();
+            for (int i = 0; i < addedKeys.size(); i++) {
+                if (!addedKeys.get(i).equals(toKey.apply(records.get(start + i)))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        List<R> getRecords(int shard) {
+            return new ArrayList<>(shards.get(shard).values());
+        }
+
+        List<String> getKeys() {
+            return new ArrayList<>(keys);
+        }
+    }
+
+    /**
+     * The contents of the files to rewrite, which supersede the contents of the same files in earlier snapshots.
+     */
+    private class Snapshot implements AddressBookSnapshot {
+        private final Map<Path, FileUtil.ContentWriter> files;
+
+        Snapshot(Map<Path, FileUtil.ContentWriter> files) {
+            this.files = files;
+        }
+
+        @Override
+        public void write() throws IOException {
+            try {
+                for (Map.Entry<Path, FileUtil.ContentWriter> file : files.entrySet()) {
+                    new GenerationalDataFile(file.getKey(), 0).write(file.getValue());
+                }
+            } catch (IOException ioe) {
+                handleWriteFailure();
+                throw ioe;
+            }
+        }
+
+        @Override
+        public Optional<AddressBookSnapshot> coalesce(AddressBookSnapshot next) {
+            if (!(next instanceof Snapshot) || ((Snapshot) next).getStorage() != getStorage()) {
+                return Optional.empty();
+            }
+
+            Map<Path, FileUtil.ContentWriter> coalescedFiles = new LinkedHashMap<>(files);
+            coalescedFiles.putAll(((Snapshot) next).files);
+            moveManifestToEnd(coalescedFiles);
+            return Optional.of(new Snapshot(coalescedFiles));
+        }
+
+        private void moveManifestToEnd(Map<Path, FileUtil.ContentWriter> files) {
+            files.entrySet().stream()
+                    .filter(file -> file.getKey().getFileName().toString().equals(MANIFEST_FILE_NAME))
+                    .findFirst()
+                    .ifPresent(manifest -> {
+                        files.remove(manifest.getKey());
+                        files.put(manifest.getKey(), manifest.getValue());
+                    });
+        }
+
+        private ShardedAddressBookStorage getStorage() {
+            return ShardedAddressBookStorage.this;
+        }
+    }
+}
@@ -29,4 +29,16 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Waits for all address book saves still being written in the background to complete.
+     * @throws IOException if a save failed and the failure has not been reported yet.
+     */
+    void flushAddressBook() throws IOException;
+
+    /**
+     * Returns the failure of the latest address book save written in the background that has not been reported yet,
+     * or {@code Optional.empty()} if there is none.
+     */
+    Optional<IOException> pollAddressBookSaveFailure();
+
 }
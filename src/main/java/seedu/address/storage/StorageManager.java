@@ -13,19 +13,34 @@ import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * AddressBook data can either be saved before {@code saveAddressBook} returns, or be snapshotted and handed to a
+ * {@link BackgroundAddressBookWriter} so that the caller does not wait for the file to be written.
  */
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private BackgroundAddressBookWriter backgroundWriter;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}
+     * that saves AddressBook data before {@code saveAddressBook} returns.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     *
+     * @param isSavingInBackground whether AddressBook data is written by a background thread instead.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          boolean isSavingInBackground) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.backgroundWriter = isSavingInBackground ? new BackgroundAddressBookWriter() : null;
     }
 
     // ================ UserPrefs methods ==============================
@@ -64,6 +79,11 @@ public class StorageManager implements Storage {
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    @Override
+    public Optional<Path> getRecoveredBackupPath() {
+        return addressBookStorage.getRecoveredBackupPath();
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
@@ -71,8 +91,31 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (backgroundWriter == null) {
+            logger.fine("Attempting to write to data file: " + filePath);
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        logger.fine("Queueing write to data file: " + filePath);
+        backgroundWriter.submit(addressBookStorage.snapshotAddressBook(addressBook, filePath));
+    }
+
+    @Override
+    public AddressBookSnapshot snapshotAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        return addressBookStorage.snapshotAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        if (backgroundWriter != null) {
+            backgroundWriter.flush();
+        }
+    }
+
+    @Override
+    public Optional<IOException> pollAddressBookSaveFailure() {
+        return backgroundWriter == null ? Optional.empty() : backgroundWriter.pollFailure();
     }
 
 }
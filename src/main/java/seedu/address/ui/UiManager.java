@@ -24,12 +24,22 @@ public class UiManager implements Ui {
 
     private Logic logic;
     private MainWindow mainWindow;
+    private String startupWarning;
 
     /**
      * Creates a {@code UiManager} with the given {@code Logic}.
      */
     public UiManager(Logic logic) {
+        this(logic, null);
+    }
+
+    /**
+     * Creates a {@code UiManager} with the given {@code Logic}, which shows {@code startupWarning} once the main
+     * window is shown, unless it is null.
+     */
+    public UiManager(Logic logic, String startupWarning) {
         this.logic = logic;
+        this.startupWarning = startupWarning;
     }
 
     @Override
@@ -43,6 +53,10 @@ public class UiManager implements Ui {
             mainWindow = new MainWindow(primaryStage, logic);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
+            if (startupWarning != null) {
+                showAlertDialogAndWait(AlertType.WARNING, "Data file recovered", "Data was loaded from a backup",
+                        startupWarning);
+            }
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
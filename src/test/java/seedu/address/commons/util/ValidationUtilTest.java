@@ -0,0 +1,42 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    @Test
+    public void matches_wholeStringOnly() {
+        Pattern pattern = Pattern.compile("[a-z]{2,3}");
+        assertTrue(ValidationUtil.matches(pattern, "ab"));
+        assertTrue(ValidationUtil.matches(pattern, "abc"));
+        assertFalse(ValidationUtil.matches(pattern, "abcd"));
+        assertFalse(ValidationUtil.matches(pattern, " ab"));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.matches(pattern, null));
+    }
+
+    @Test
+    public void isAsciiDigits() {
+        assertTrue(ValidationUtil.isAsciiDigits("123456", 6, 6));
+        assertTrue(ValidationUtil.isAsciiDigits("+123", 1, 3, 15));
+        assertFalse(ValidationUtil.isAsciiDigits("12345", 6, 6)); // too short
+        assertFalse(ValidationUtil.isAsciiDigits("1234567", 6, 6)); // too long
+        assertFalse(ValidationUtil.isAsciiDigits("12a456", 6, 6)); // letter
+        assertFalse(ValidationUtil.isAsciiDigits("12٤456", 6, 6)); // non-ASCII digit
+        assertFalse(ValidationUtil.isAsciiDigits("+123", 3, 15)); // plus sign not skipped
+        assertThrows(IllegalArgumentException.class, () -> ValidationUtil.isAsciiDigits("123", 3, 2));
+    }
+
+    @Test
+    public void isAsciiAlphanumeric() {
+        assertTrue(ValidationUtil.isAsciiAlphanumeric("a1Z", 1, 3));
+        assertFalse(ValidationUtil.isAsciiAlphanumeric("", 1, 3));
+        assertFalse(ValidationUtil.isAsciiAlphanumeric("a-1", 1, 3));
+        assertFalse(ValidationUtil.isAsciiAlphanumeric("é1", 1, 3));
+    }
+}
@@ -11,6 +11,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -253,6 +254,26 @@ public class AddPersonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Listing> getListingsWithPriceRangeOverlapping(PriceRange priceRange) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<PropertyPreference> getPreferencesWithPriceRangeOverlapping(PriceRange priceRange) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Listing> getListingsWithAllTags(Set<String> tagNames) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<PropertyPreference> getPreferencesWithAllTags(Set<String> tagNames) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setTag(Tag target, Tag editedTag) {
             throw new AssertionError("This method should not be called.");
@@ -267,6 +288,21 @@ public class AddPersonCommandTest {
         public void resetAllLists() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void resetAllListsExceptLiveMatches() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showListingMatches(Listing listing) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showPreferenceMatches(PropertyPreference preference) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
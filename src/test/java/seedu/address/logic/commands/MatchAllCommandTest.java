@@ -0,0 +1,49 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.ListingBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PreferenceBuilder;
+
+public class MatchAllCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_availableListings_writesReport() throws Exception {
+        Model model = new ModelManager();
+        model.setAddressBookFilePath(testFolder.resolve("addressbook.json"));
+
+        Person person = new PersonBuilder().build();
+        new PreferenceBuilder(person).withPriceRange("100", "200").build();
+        model.addPerson(person);
+
+        model.addListing(new ListingBuilder().withPostalCode("111111").withPriceRange("150", "250").build());
+        model.addListing(new ListingBuilder().withPostalCode("222222").withPriceRange("150", "250")
+                .withAvailability(false).build());
+
+        Path reportFilePath = testFolder.resolve(MatchAllCommand.REPORT_FILE_NAME);
+        CommandResult result = new MatchAllCommand().execute(model);
+        assertEquals(String.format(MatchAllCommand.MESSAGE_SUCCESS, 1, 1, reportFilePath),
+                result.getFeedbackToUser());
+
+        List<String> lines = List.of(FileUtil.readFromFile(reportFilePath).split(System.lineSeparator()));
+        assertTrue(lines.get(0).contains("111111"));
+        assertEquals("1 matching preferences", lines.get(1));
+        assertTrue(lines.get(2).startsWith("  1. Score 1 - " + person.getName()));
+        assertTrue(lines.stream().noneMatch(line -> line.contains("222222")));
+    }
+}
@@ -19,6 +19,7 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListPersonCommand;
 import seedu.address.logic.commands.SearchPersonByNameCommand;
+import seedu.address.logic.commands.ShowMoreMatchesCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.PersonBuilder;
@@ -75,6 +76,11 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListPersonCommand.COMMAND_WORD + " 3") instanceof ListPersonCommand);
     }
 
+    @Test
+    public void parseCommand_moreMatches() throws Exception {
+        assertTrue(parser.parseCommand(ShowMoreMatchesCommand.COMMAND_WORD) instanceof ShowMoreMatchesCommand);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_DUPLICATE_FIELDS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_LIMIT;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.MatchListingCommand;
+
+public class MatchListingCommandParserTest {
+
+    private MatchListingCommandParser parser = new MatchListingCommandParser();
+
+    @Test
+    public void parse_indexOnly_returnsUnlimitedCommand() {
+        assertParseSuccess(parser, "1", new MatchListingCommand(INDEX_FIRST_PERSON));
+    }
+
+    @Test
+    public void parse_indexAndLimit_returnsLimitedCommand() {
+        assertParseSuccess(parser, "1 " + PREFIX_LIMIT + "20", new MatchListingCommand(INDEX_FIRST_PERSON, 20));
+    }
+
+    @Test
+    public void parse_invalidLimit_throwsParseException() {
+        assertParseFailure(parser, "1 " + PREFIX_LIMIT + "0", MESSAGE_INVALID_LIMIT);
+        assertParseFailure(parser, "1 " + PREFIX_LIMIT + "5 " + PREFIX_LIMIT + "6",
+                MESSAGE_DUPLICATE_FIELDS + PREFIX_LIMIT);
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_LIMIT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
@@ -54,6 +55,18 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseLimit_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_LIMIT, () -> ParserUtil.parseLimit("0"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_LIMIT, () -> ParserUtil.parseLimit("-5"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_LIMIT, () -> ParserUtil.parseLimit(""));
+    }
+
+    @Test
+    public void parseLimit_validInput_success() throws Exception {
+        assertEquals(20, ParserUtil.parseLimit("  20  "));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
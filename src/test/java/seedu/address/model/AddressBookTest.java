@@ -22,7 +22,10 @@ import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
 import seedu.address.model.listing.Listing;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.price.Price;
+import seedu.address.model.price.PriceRange;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
@@ -98,6 +101,23 @@ public class AddressBookTest {
         assertFalse(addressBook.getPersonList().contains(ALICE));
     }
 
+    @Test
+    public void getPreferencesWithPriceRangeOverlapping_preferencesChanged_followsChanges() {
+        Person person = new PersonBuilder().build();
+        PriceRange fromHundred = new PriceRange(new Price("100"), false);
+        PropertyPreference preference = new PropertyPreference(
+                new PriceRange(new Price("50"), new Price("150")), new HashSet<>(), person);
+        addressBook.addPerson(person);
+
+        person.addPropertyPreference(preference);
+        addressBook.setPerson(person, person);
+        assertEquals(List.of(preference), addressBook.getPreferencesWithPriceRangeOverlapping(fromHundred));
+
+        person.removePropertyPreference(preference);
+        addressBook.setPerson(person, person);
+        assertEquals(List.of(), addressBook.getPreferencesWithPriceRangeOverlapping(fromHundred));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -116,6 +136,19 @@ public class AddressBookTest {
         assertFalse(addressBook.hasTags(tags));
     }
 
+    @Test
+    public void hasChanges_changesPolled_returnsFalseUntilNextChange() {
+        assertFalse(addressBook.hasChanges());
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.hasChanges());
+        assertTrue(addressBook.hasChanges());
+
+        addressBook.pollChanges();
+        assertFalse(addressBook.hasChanges());
+        addressBook.removePerson(ALICE);
+        assertTrue(addressBook.hasChanges());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + ", "
@@ -0,0 +1,85 @@
+package seedu.address.model.listing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.listing.exceptions.DuplicateListingException;
+import seedu.address.model.listing.exceptions.ListingNotFoundException;
+import seedu.address.model.price.PriceRange;
+
+public class UniqueListingListTest {
+
+    private static final PostalCode BLOCK_POSTAL_CODE = new PostalCode("123456");
+
+    private final UniqueListingList uniqueListingList = new UniqueListingList();
+
+    private static Listing createUnit(String postalCode, String unitNumber, boolean isAvailable) {
+        return new Listing(new PostalCode(postalCode), new UnitNumber(unitNumber), new PriceRange(), new HashSet<>(),
+                new ArrayList<>(), isAvailable);
+    }
+
+    private static Listing createHouse(String postalCode, String houseNumber) {
+        return new Listing(new PostalCode(postalCode), new HouseNumber(houseNumber), new PriceRange(), new HashSet<>(),
+                new ArrayList<>(), true);
+    }
+
+    @Test
+    public void contains_listingWithSameIdentityInList_returnsTrue() {
+        uniqueListingList.add(createUnit("123456", "01-01", true));
+        assertTrue(uniqueListingList.contains(createUnit("123456", "01-01", false)));
+        assertFalse(uniqueListingList.contains(createUnit("123456", "01-02", true)));
+        assertFalse(uniqueListingList.contains(createHouse("123456", "1")));
+    }
+
+    @Test
+    public void add_duplicateListing_throwsDuplicateListingException() {
+        uniqueListingList.add(createHouse("123456", "1"));
+        assertThrows(DuplicateListingException.class, () -> uniqueListingList.add(createHouse("123456", "1")));
+    }
+
+    @Test
+    public void setListing_editedListingHasDifferentIdentity_indexesUpdated() {
+        Listing unit = createUnit("123456", "01-01", true);
+        Listing movedUnit = createUnit("654321", "01-01", true);
+        uniqueListingList.add(unit);
+        uniqueListingList.setListing(unit, movedUnit);
+
+        assertFalse(uniqueListingList.contains(unit));
+        assertEquals(List.of(), uniqueListingList.getListingsWithPostalCode(BLOCK_POSTAL_CODE));
+        assertEquals(List.of(movedUnit), uniqueListingList.getListingsWithPostalCode(new PostalCode("654321")));
+        assertThrows(ListingNotFoundException.class, () -> uniqueListingList.setListing(unit, movedUnit));
+    }
+
+    @Test
+    public void remove_listingWithDifferentFields_throwsListingNotFoundException() {
+        uniqueListingList.add(createUnit("123456", "01-01", true));
+        Listing namedUnit = new Listing(new PostalCode("123456"), new UnitNumber("01-01"), new PriceRange(),
+                new PropertyName("Sunrise Towers"), new HashSet<>(), new ArrayList<>(), true);
+        assertThrows(ListingNotFoundException.class, () -> uniqueListingList.remove(namedUnit));
+    }
+
+    @Test
+    public void getListingsWithPostalCode_unitsInBlock_returnsUnitsInOrder() {
+        Listing firstUnit = createUnit("123456", "01-01", true);
+        Listing secondUnit = createUnit("123456", "01-02", true);
+        Listing thirdUnit = createUnit("123456", "02-01", true);
+        uniqueListingList.setListings(List.of(firstUnit, createHouse("654321", "1"), secondUnit, thirdUnit));
+
+        uniqueListingList.remove(secondUnit);
+        assertEquals(List.of(firstUnit, thirdUnit), uniqueListingList.getListingsWithPostalCode(BLOCK_POSTAL_CODE));
+    }
+
+    @Test
+    public void setListings_listWithDuplicateListings_throwsDuplicateListingException() {
+        List<Listing> listWithDuplicateListings = List.of(createHouse("123456", "1"), createHouse("123456", "1"));
+        assertThrows(DuplicateListingException.class, () -> uniqueListingList.setListings(listWithDuplicateListings));
+    }
+}
@@ -7,6 +7,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -100,6 +101,17 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_previousIdentityFreed() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(
+                new PersonBuilder(BOB).withName("Bobby").build()));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -160,6 +172,19 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_manyPersons_replacesOwnList() {
+        List<Person> personList = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            personList.add(new PersonBuilder().withPhone(String.valueOf(80_000_000 + i)).build());
+        }
+        uniquePersonList.setPersons(personList);
+        assertTrue(uniquePersonList.contains(personList.get(99_999)));
+
+        personList.add(new PersonBuilder().withPhone("80000000").build());
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(personList));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,102 @@
+package seedu.address.model.price;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PriceRangeIndexTest {
+
+    private static final PriceRange ANY = new PriceRange();
+    private static final PriceRange UP_TO_100 = new PriceRange(new Price("100"), true);
+    private static final PriceRange FROM_200 = new PriceRange(new Price("200"), false);
+    private static final PriceRange FROM_100_TO_200 = new PriceRange(new Price("100"), new Price("200"));
+    private static final PriceRange FROM_300_TO_400 = new PriceRange(new Price("300"), new Price("400"));
+
+    private final PriceRangeIndex<String> index = new PriceRangeIndex<>();
+
+    @Test
+    public void getOverlapping_unboundedRanges_orderedByLowerBound() {
+        index.add("from 300 to 400", FROM_300_TO_400);
+        index.add("from 200", FROM_200);
+        index.add("any", ANY);
+        index.add("up to 100", UP_TO_100);
+
+        assertEquals(List.of("any", "up to 100"), index.getOverlapping(new PriceRange(new Price("50"), true)));
+        assertEquals(List.of("any", "from 200", "from 300 to 400"), index.getOverlapping(FROM_300_TO_400));
+        assertEquals(List.of("any", "up to 100", "from 200", "from 300 to 400"), index.getOverlapping(ANY));
+    }
+
+    @Test
+    public void add_itemAlreadyIndexed_replacesPriceRange() {
+        index.add("item", UP_TO_100);
+        index.add("item", FROM_300_TO_400);
+
+        assertEquals(1, index.size());
+        assertEquals(List.of(), index.getOverlapping(UP_TO_100));
+        assertEquals(List.of("item"), index.getOverlapping(FROM_200));
+    }
+
+    @Test
+    public void remove_comparesByIdentity() {
+        String item = new String("item");
+        index.add(item, FROM_100_TO_200);
+
+        assertFalse(index.remove(new String("item")));
+        assertTrue(index.remove(item));
+        assertFalse(index.contains(item));
+        assertEquals(List.of(), index.getOverlapping(ANY));
+    }
+
+    @Test
+    public void getOverlapping_randomRanges_matchesLinearSearch() {
+        Random random = new Random(42);
+        List<String> items = new ArrayList<>();
+        List<PriceRange> ranges = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            String item = "item " + i;
+            PriceRange range = randomPriceRange(random);
+            items.add(item);
+            ranges.add(range);
+            index.add(item, range);
+        }
+        for (int i = 0; i < items.size(); i += 3) {
+            index.remove(items.get(i));
+        }
+
+        for (int query = 0; query < 200; query++) {
+            PriceRange queryRange = randomPriceRange(random);
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < items.size(); i++) {
+                if (i % 3 != 0 && ranges.get(i).doPriceRangeOverlap(queryRange)) {
+                    expected.add(items.get(i));
+                }
+            }
+            expected.sort(Comparator.comparingLong((String item) ->
+                    ranges.get(items.indexOf(item)).getLowerBoundCents()).thenComparing(items::indexOf));
+
+            assertEquals(expected, index.getOverlapping(queryRange));
+        }
+    }
+
+    private static PriceRange randomPriceRange(Random random) {
+        Price low = new Price(String.valueOf(random.nextInt(1000)));
+        Price high = new Price(String.valueOf(low.cents / 100 + random.nextInt(100)));
+        switch (random.nextInt(8)) {
+        case 0:
+            return new PriceRange();
+        case 1:
+            return new PriceRange(low, false);
+        case 2:
+            return new PriceRange(high, true);
+        default:
+            return new PriceRange(low, high);
+        }
+    }
+}
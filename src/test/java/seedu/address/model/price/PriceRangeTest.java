@@ -0,0 +1,63 @@
+package seedu.address.model.price;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class PriceRangeTest {
+
+    private static final PriceRange ANY = new PriceRange();
+    private static final PriceRange UP_TO_100 = new PriceRange(new Price("100"), true);
+    private static final PriceRange FROM_200 = new PriceRange(new Price("200"), false);
+    private static final PriceRange FROM_100_TO_200 = new PriceRange(new Price("100"), new Price("200"));
+    private static final PriceRange FROM_300_TO_400 = new PriceRange(new Price("300"), new Price("400"));
+
+    @Test
+    public void isPriceWithinRange() {
+        assertTrue(ANY.isPriceWithinRange(new Price("0")));
+        assertTrue(UP_TO_100.isPriceWithinRange(new Price("100")));
+        assertFalse(UP_TO_100.isPriceWithinRange(new Price("100.01")));
+        assertTrue(FROM_100_TO_200.isPriceWithinRange(new Price("100")));
+        assertTrue(FROM_100_TO_200.isPriceWithinRange(new Price("200")));
+        assertFalse(FROM_100_TO_200.isPriceWithinRange(new Price("99.99")));
+    }
+
+    @Test
+    public void doPriceRangeOverlap_isSymmetric() {
+        PriceRange[] ranges = {ANY, UP_TO_100, FROM_200, FROM_100_TO_200, FROM_300_TO_400};
+        for (PriceRange range : ranges) {
+            for (PriceRange other : ranges) {
+                assertEquals(range.doPriceRangeOverlap(other), other.doPriceRangeOverlap(range));
+            }
+        }
+    }
+
+    @Test
+    public void doPriceRangeOverlap() {
+        assertTrue(ANY.doPriceRangeOverlap(FROM_300_TO_400));
+        assertTrue(UP_TO_100.doPriceRangeOverlap(FROM_100_TO_200));
+        assertTrue(FROM_200.doPriceRangeOverlap(FROM_100_TO_200));
+        assertTrue(FROM_200.doPriceRangeOverlap(FROM_300_TO_400));
+        assertFalse(UP_TO_100.doPriceRangeOverlap(FROM_200));
+        assertFalse(UP_TO_100.doPriceRangeOverlap(FROM_300_TO_400));
+        assertFalse(FROM_100_TO_200.doPriceRangeOverlap(FROM_300_TO_400));
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(FROM_100_TO_200.equals(new PriceRange(new Price("100.00"), new Price("200"))));
+        assertFalse(UP_TO_100.equals(new PriceRange(new Price("100"), false)));
+        assertFalse(ANY.equals(UP_TO_100));
+        assertEquals(ANY, new PriceRange());
+    }
+
+    @Test
+    public void toString_format() {
+        assertEquals("Any Price", ANY.toString());
+        assertEquals("Up to $100.00", UP_TO_100.toString());
+        assertEquals("From $200.00", FROM_200.toString());
+        assertEquals("$100.00 to $200.00", FROM_100_TO_200.toString());
+    }
+}
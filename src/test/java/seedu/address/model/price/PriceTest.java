@@ -0,0 +1,53 @@
+package seedu.address.model.price;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+public class PriceTest {
+
+    @Test
+    public void constructor_invalidPrice_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Price("1.234"));
+        assertThrows(IllegalArgumentException.class, () -> new Price("-1"));
+        assertThrows(IllegalArgumentException.class, () -> new Price("12345678901234567"));
+    }
+
+    @Test
+    public void constructor_validPrice_storesCents() {
+        assertEquals(0, new Price("0").cents);
+        assertEquals(150, new Price("1.5").cents);
+        assertEquals(105, new Price("1.05").cents);
+        assertEquals(999999999999999999L, new Price("9999999999999999.99").cents);
+    }
+
+    @Test
+    public void toString_alwaysTwoDecimalPlaces() {
+        assertEquals("$500000.00", new Price("500000").toString());
+        assertEquals("$1.50", new Price("1.5").toString());
+        assertEquals("$0.05", new Price("0.05").toString());
+    }
+
+    @Test
+    public void toBigDecimal_noTrailingDecimalZeros() {
+        assertEquals(new BigDecimal("500000"), new Price("500000.00").toBigDecimal());
+        assertEquals(new BigDecimal("1.5"), new Price("1.50").toBigDecimal());
+        assertEquals(new BigDecimal("1.05"), new Price("1.05").toBigDecimal());
+    }
+
+    @Test
+    public void equals() {
+        Price price = new Price("100");
+
+        assertTrue(price.equals(new Price("100.00")));
+        assertTrue(price.equals(price));
+        assertFalse(price.equals(null));
+        assertFalse(price.equals(new Price("100.01")));
+        assertEquals(price.hashCode(), new Price("100.0").hashCode());
+    }
+}
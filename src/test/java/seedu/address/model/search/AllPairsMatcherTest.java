@@ -0,0 +1,126 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ListingBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PreferenceBuilder;
+
+public class AllPairsMatcherTest {
+
+    private final Model model = new ModelManager();
+    private Tag pool;
+
+    @BeforeEach
+    public void setUp() {
+        model.addTags(Set.of("POOL"));
+        pool = model.getTag("POOL");
+    }
+
+    @Test
+    public void match_rankedByScoreExcludingOwnersAndNonMatches() {
+        Person owner = addPerson("Owner", "91111111");
+        PropertyPreference ownerPreference = addPreference(owner, "100", "200", pool);
+        PropertyPreference bothMatch = addPreference(addPerson("Both", "92222222"), "150", "300", pool);
+        PropertyPreference tagMatch = addPreference(addPerson("Tag", "93333333"), "500", "600", pool);
+        PropertyPreference priceMatch = addPreference(addPerson("Price", "94444444"), "0", "100");
+        addPreference(addPerson("None", "95555555"), "500", "600");
+
+        Listing listing = new ListingBuilder().withPostalCode(0).withPriceRange("100", "200").withOwners(owner)
+                .withTags(pool).build();
+        model.addListing(listing);
+        ListingMatches matches = new AllPairsMatcher(model).match(listing);
+
+        // Preferences of equal scores keep the order they are found in: by price range first, then by tag
+        assertEquals(List.of(bothMatch, priceMatch, tagMatch), matches.getRankedPreferences());
+        assertEquals(2, matches.getScore(0));
+        assertEquals(1, matches.getScore(1));
+        assertFalse(matches.getRankedPreferences().contains(ownerPreference));
+    }
+
+    @Test
+    public void matchAll_manyListings_sameAsMatchingEachListing() {
+        for (int i = 0; i < 50; i++) {
+            Person person = addPerson("Person " + (char) ('a' + i % 26) + (char) ('a' + i / 26),
+                    String.valueOf(90000000 + i));
+            addPreference(person, String.valueOf(i * 10), String.valueOf(i * 10 + 40), i % 3 == 0 ? pool : null);
+        }
+        List<Listing> listings = new ArrayList<>();
+        for (int i = 0; i < AllPairsMatcher.LISTINGS_PER_CHUNK + AllPairsMatcher.LISTINGS_PER_TASK + 3; i++) {
+            Listing listing = new ListingBuilder().withPostalCode(i)
+                    .withPriceRange(String.valueOf(i * 4), String.valueOf(i * 4 + 20))
+                    .withTags(i % 2 == 0 ? pool : null).build();
+            model.addListing(listing);
+            listings.add(listing);
+        }
+
+        AllPairsMatcher matcher = new AllPairsMatcher(model, new ForkJoinPool(4));
+        Iterator<ListingMatches> allMatches = matcher.matchAll(listings).iterator();
+
+        for (Listing listing : listings) {
+            ListingMatches matches = allMatches.next();
+            assertEquals(listing, matches.getListing());
+            assertEquals(matcher.match(listing).getRankedPreferences(), matches.getRankedPreferences());
+        }
+        assertFalse(allMatches.hasNext());
+    }
+
+    @Test
+    public void matchAll_preferencesDeleted_deletedPreferencesNotMatched() {
+        List<PropertyPreference> kept = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Person person = addPerson("Person " + (char) ('a' + i % 26) + (char) ('a' + i / 26),
+                    String.valueOf(90000000 + i));
+            PropertyPreference preference = addPreference(person, "1000", "2000", pool);
+            if (i % 2 == 0) {
+                // Deleted as DeletePreferenceCommand does, which leaves the tag's preferences shifted
+                person.removePropertyPreference(preference);
+                pool.removePropertyPreference(preference);
+                model.setPerson(person, person);
+            } else {
+                kept.add(preference);
+            }
+        }
+        List<Listing> listings = new ArrayList<>();
+        for (int i = 0; i < AllPairsMatcher.LISTINGS_PER_TASK * 4; i++) {
+            Listing listing = new ListingBuilder().withPostalCode(i).withTags(pool).build();
+            model.addListing(listing);
+            listings.add(listing);
+        }
+
+        Iterable<ListingMatches> allMatches = new AllPairsMatcher(model, new ForkJoinPool(4)).matchAll(listings);
+
+        for (ListingMatches matches : allMatches) {
+            assertEquals(kept, matches.getRankedPreferences());
+        }
+    }
+
+    private Person addPerson(String name, String phone) {
+        Person person = new PersonBuilder().withName(name).withPhone(phone).build();
+        model.addPerson(person);
+        return person;
+    }
+
+    private PropertyPreference addPreference(Person person, String lower, String upper, Tag... tags) {
+        PropertyPreference preference = new PreferenceBuilder(person).withPriceRange(lower, upper).withTags(tags)
+                .build();
+        model.setPerson(person, person);
+        return preference;
+    }
+}
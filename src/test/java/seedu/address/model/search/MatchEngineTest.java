@@ -0,0 +1,86 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ListingBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PreferenceBuilder;
+
+public class MatchEngineTest {
+
+    private static final Tag POOL = new Tag("POOL", new ArrayList<>(), new ArrayList<>());
+    private static final Tag GYM = new Tag("GYM", new ArrayList<>(), new ArrayList<>());
+    private static final Tag PARK = new Tag("PARK", new ArrayList<>(), new ArrayList<>());
+
+    private final Listing listing = new ListingBuilder().withPriceRange("100", "200").withTags(POOL, GYM).build();
+
+    @Test
+    public void preferenceMatchScorer_countsPriceOverlapAndSharedTags() {
+        Person person = new PersonBuilder().build();
+        assertEquals(3, new PreferenceMatchScorer(
+                new PreferenceBuilder(person).withPriceRange("150", "300").withTags(POOL, GYM).build()).score(listing));
+        assertEquals(1, new PreferenceMatchScorer(new PreferenceBuilder(person).withPriceRange("300", "400")
+                .withTags(POOL, PARK).build()).score(listing));
+        assertEquals(0, new PreferenceMatchScorer(
+                new PreferenceBuilder(person).withPriceRange("300", "400").withTags(PARK).build()).score(listing));
+    }
+
+    @Test
+    public void listingMatchScorer_returnsScoreOfBestPreference() {
+        Person person = new PersonBuilder().build();
+        new PreferenceBuilder(person).withPriceRange("300", "400").withTags(PARK).build();
+        new PreferenceBuilder(person).withPriceRange("150", "300").withTags(GYM).build();
+        ListingMatchScorer scorer = new ListingMatchScorer(listing);
+        assertEquals(2, scorer.score(person));
+        assertEquals(0, scorer.score(new PersonBuilder().build()));
+    }
+
+    @Test
+    public void rankListings_ordersByDescendingScoreKeepingTies() {
+        Person person = new PersonBuilder().build();
+        PropertyPreference preference = new PreferenceBuilder(person).withPriceRange("100", "200").withTags(POOL)
+                .build();
+        Listing poorMatch = new ListingBuilder().withPostalCode("111111").withPriceRange("500", "600").build();
+        Listing otherPoorMatch = new ListingBuilder().withPostalCode("222222").withPriceRange("500", "600").build();
+
+        MatchRanking<Listing> ranking = MatchEngine.rankListings(preference,
+                List.of(poorMatch, listing, otherPoorMatch));
+        assertEquals(List.of(listing, poorMatch, otherPoorMatch), ranking.getRankedCandidates());
+        assertArrayEquals(new int[] {2, 0, 0}, ranking.getRankedScores());
+        assertEquals(2, ranking.getScore(listing));
+        assertTrue(ranking.compare(listing, poorMatch) < 0);
+        assertEquals(0, ranking.compare(poorMatch, otherPoorMatch));
+    }
+
+    @Test
+    public void matchRanking_scoresEachCandidateOnce() {
+        AtomicInteger scoreCount = new AtomicInteger();
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            candidates.add(i);
+        }
+
+        MatchRanking<Integer> ranking = new MatchRanking<>(candidates, candidate -> {
+            scoreCount.incrementAndGet();
+            return candidate % 7;
+        });
+        List<Integer> sorted = new ArrayList<>(candidates);
+        sorted.sort(ranking);
+
+        assertEquals(100, scoreCount.get());
+        assertEquals(sorted, ranking.getRankedCandidates());
+        assertEquals(6, ranking.getScore(sorted.get(0)));
+    }
+}
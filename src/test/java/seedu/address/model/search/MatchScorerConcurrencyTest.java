@@ -0,0 +1,161 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ListingBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PreferenceBuilder;
+
+public class MatchScorerConcurrencyTest {
+
+    private static final int TAG_COUNT = 8;
+    private static final int LISTING_COUNT = 20;
+    private static final int PERSON_COUNT = 200;
+    private static final int THREAD_COUNT = 8;
+    private static final int QUERIES_PER_THREAD = 50;
+
+    private final List<Tag> tags = new ArrayList<>();
+    private final List<Listing> listings = new ArrayList<>();
+    private final List<Person> persons = new ArrayList<>();
+
+    @Test
+    public void scorers_differentTargetsAtOnce_eachScoresAgainstOwnTarget() {
+        createData();
+        Listing first = listings.get(0);
+        Listing second = listings.get(1);
+        Comparator<Person> firstComparator = byScore(new ListingMatchScorer(first));
+        Comparator<Person> secondComparator = byScore(new ListingMatchScorer(second));
+
+        List<Person> sortedForFirst = sort(persons, firstComparator);
+        List<Person> sortedForSecond = sort(persons, secondComparator);
+
+        assertEquals(MatchEngine.rankPersons(first, persons).getRankedCandidates(), sortedForFirst);
+        assertEquals(MatchEngine.rankPersons(second, persons).getRankedCandidates(), sortedForSecond);
+    }
+
+    @Test
+    public void matchQueries_concurrentThreads_resultsIsolatedPerQuery() throws Exception {
+        createData();
+        List<List<Person>> expectedPersons = new ArrayList<>();
+        List<List<Listing>> expectedListings = new ArrayList<>();
+        for (Listing listing : listings) {
+            expectedPersons.add(MatchEngine.rankPersons(listing, persons).getRankedCandidates());
+        }
+        List<PropertyPreference> preferences = getPreferences();
+        for (PropertyPreference preference : preferences) {
+            expectedListings.add(MatchEngine.rankListings(preference, listings).getRankedCandidates());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int thread = 0; thread < THREAD_COUNT; thread++) {
+            int seed = thread;
+            results.add(executor.submit(() -> {
+                start.await();
+                int mismatches = 0;
+                for (int query = 0; query < QUERIES_PER_THREAD; query++) {
+                    int listingIndex = (seed * 7 + query) % listings.size();
+                    Listing listing = listings.get(listingIndex);
+                    if (!expectedPersons.get(listingIndex).equals(
+                            MatchEngine.rankPersons(listing, persons).getRankedCandidates())
+                            || !expectedPersons.get(listingIndex).equals(
+                                    sort(persons, byScore(new ListingMatchScorer(listing))))) {
+                        mismatches++;
+                    }
+
+                    int preferenceIndex = (seed * 13 + query) % preferences.size();
+                    PropertyPreference preference = preferences.get(preferenceIndex);
+                    if (!expectedListings.get(preferenceIndex).equals(
+                            sort(listings, byScore(new PreferenceMatchScorer(preference))))) {
+                        mismatches++;
+                    }
+                }
+                return mismatches;
+            }));
+        }
+
+        start.countDown();
+        int mismatches = 0;
+        for (Future<Integer> result : results) {
+            mismatches += result.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+        assertEquals(0, mismatches);
+    }
+
+    private void createData() {
+        for (int i = 0; i < TAG_COUNT; i++) {
+            tags.add(new Tag("TAG" + i, new ArrayList<>(), new ArrayList<>()));
+        }
+        for (int i = 0; i < LISTING_COUNT; i++) {
+            listings.add(new ListingBuilder().withPostalCode(i)
+                    .withPriceRange(String.valueOf(i * 100), String.valueOf(i * 100 + 250))
+                    .withTags(getTags(i, i % 4)).build());
+        }
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            Person person = new PersonBuilder().withName("Person " + toLetters(i))
+                    .withPhone(String.valueOf(90000000 + i)).build();
+            for (int j = 0; j < i % 3 + 1; j++) {
+                int offset = i * 3 + j;
+                new PreferenceBuilder(person)
+                        .withPriceRange(String.valueOf(offset % 2000), String.valueOf(offset % 2000 + 150))
+                        .withTags(getTags(offset, offset % 5)).build();
+            }
+            persons.add(person);
+        }
+    }
+
+    private List<PropertyPreference> getPreferences() {
+        List<PropertyPreference> preferences = new ArrayList<>();
+        for (Person person : persons) {
+            preferences.addAll(person.getPropertyPreferences());
+        }
+        return preferences;
+    }
+
+    private Tag[] getTags(int first, int count) {
+        Tag[] chosen = new Tag[count];
+        for (int i = 0; i < count; i++) {
+            chosen[i] = tags.get((first + i * 3) % TAG_COUNT);
+        }
+        return chosen;
+    }
+
+    /**
+     * Spells {@code number} in letters, as names cannot hold digits.
+     */
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return letters.toString();
+    }
+
+    private static <T> Comparator<T> byScore(MatchScorer<T> scorer) {
+        return Comparator.comparingInt(scorer::score).reversed();
+    }
+
+    private static <T> List<T> sort(List<T> items, Comparator<T> comparator) {
+        List<T> sorted = new ArrayList<>(items);
+        sorted.sort(comparator);
+        return sorted;
+    }
+}
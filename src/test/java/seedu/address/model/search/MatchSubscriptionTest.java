@@ -0,0 +1,156 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ListingBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PreferenceBuilder;
+
+public class MatchSubscriptionTest {
+
+    private final Model model = new ModelManager();
+    private Tag pool;
+    private Person priceMatch;
+    private Person tagMatch;
+    private Listing listing;
+
+    @BeforeEach
+    public void setUp() {
+        model.addTags(Set.of("POOL"));
+        pool = model.getTag("POOL");
+
+        priceMatch = new PersonBuilder().withName("Price").withPhone("91111111").build();
+        new PreferenceBuilder(priceMatch).withPriceRange("100", "200").build();
+        model.addPerson(priceMatch);
+        tagMatch = new PersonBuilder().withName("Tag").withPhone("92222222").build();
+        new PreferenceBuilder(tagMatch).withPriceRange("500", "600").withTags(pool).build();
+        model.addPerson(tagMatch);
+
+        listing = new ListingBuilder().withPriceRange("100", "200").build();
+        model.addListing(listing);
+    }
+
+    @Test
+    public void showListingMatches_listingTagsAndOwnersChange_matchesKeptCurrent() {
+        model.setSearch(listing.getTags(), listing.getPriceRange(), SearchType.PERSON,
+                Model.PREDICATE_SHOW_ALL_PROPERTY_PREFERENCES);
+        model.showListingMatches(listing);
+        assertEquals(List.of(priceMatch), model.getSortedFilteredPersonList());
+
+        // Adding a tag to the listing brings in the persons whose preferences have it
+        new PreferenceBuilder(priceMatch).withPriceRange("150", "250").withTags(pool).build();
+        model.setPerson(priceMatch, priceMatch);
+        pool.addListing(listing);
+        listing.addTag(pool);
+        model.setListing(listing, listing);
+        model.resetAllListsExceptLiveMatches();
+        assertEquals(List.of(priceMatch, tagMatch), model.getSortedFilteredPersonList());
+        assertTrue(model.getSearchContext().isTagActiveForPerson(pool));
+
+        // An owner of the listing no longer matches it
+        priceMatch.addListing(listing);
+        listing.addOwner(priceMatch);
+        model.setPerson(priceMatch, priceMatch);
+        model.setListing(listing, listing);
+        assertEquals(List.of(tagMatch), model.getSortedFilteredPersonList());
+    }
+
+    @Test
+    public void showPreferenceMatches_availabilityAndPreferenceTagsChange_matchesKeptCurrent() {
+        Person buyer = new PersonBuilder().withName("Buyer").withPhone("93333333").build();
+        PropertyPreference preference = new PreferenceBuilder(buyer).withPriceRange("150", "300").build();
+        model.addPerson(buyer);
+        Listing taggedListing = new ListingBuilder().withPostalCode(2).withPriceRange("500", "600").withTags(pool)
+                .build();
+        model.addListing(taggedListing);
+
+        model.showPreferenceMatches(preference);
+        assertEquals(List.of(listing), model.getSortedFilteredListingList());
+
+        listing.markUnavailable();
+        model.setListing(listing, listing);
+        assertEquals(List.of(), model.getSortedFilteredListingList());
+
+        listing.markAvailable();
+        model.setListing(listing, listing);
+        pool.addPropertyPreference(preference);
+        preference.addTag(pool);
+        model.setPerson(buyer, buyer);
+        assertEquals(List.of(listing, taggedListing), model.getSortedFilteredListingList());
+
+        // A listing with both a matching price range and tag is ranked first, and new listings are matched too
+        Listing newListing = new ListingBuilder().withPostalCode(3).withPriceRange("900", "900").withTags(pool)
+                .build();
+        model.addListing(newListing);
+        pool.addListing(listing);
+        listing.addTag(pool);
+        model.setListing(listing, listing);
+        assertEquals(List.of(listing, taggedListing, newListing), model.getSortedFilteredListingList());
+    }
+
+    @Test
+    public void showChanges_listingTagAdded_onlyChangedRowsShownAgain() {
+        ListingMatchSubscription matches = new ListingMatchSubscription(model, listing);
+        matches.showChanges(person -> {});
+
+        pool.addListing(listing);
+        listing.addTag(pool);
+        matches.onListingSet(listing, listing);
+        assertFalse(matches.getFilter().test(tagMatch));
+
+        List<Person> shownPersons = new ArrayList<>();
+        matches.showChanges(shownPersons::add);
+        assertEquals(List.of(tagMatch), shownPersons);
+        assertTrue(matches.getFilter().test(tagMatch));
+        assertEquals(0, matches.getComparator().compare(priceMatch, tagMatch));
+    }
+
+    @Test
+    public void updateFilteredPersonList_liveMatchesShown_matchesNoLongerKeptCurrent() {
+        model.showListingMatches(listing);
+
+        model.updateFilteredPersonList(person -> false);
+        Person other = new PersonBuilder().withName("Other").withPhone("93333333").build();
+        new PreferenceBuilder(other).withPriceRange("100", "200").build();
+        model.addPerson(other);
+        assertEquals(List.of(), model.getSortedFilteredPersonList());
+
+        model.resetAllListsExceptLiveMatches();
+        assertEquals(3, model.getSortedFilteredPersonList().size());
+    }
+
+    @Test
+    public void resetAllListsExceptLiveMatches_otherListFiltered_otherListReset() {
+        model.setSearch(listing.getTags(), listing.getPriceRange(), SearchType.PERSON,
+                Model.PREDICATE_SHOW_ALL_PROPERTY_PREFERENCES);
+        model.showListingMatches(listing);
+        model.updateFilteredListingList(shownListing -> false);
+        model.updateSortedFilteredListingList((first, second) -> 0);
+
+        model.resetAllListsExceptLiveMatches();
+        assertEquals(List.of(listing), model.getSortedFilteredListingList());
+        assertEquals(List.of(priceMatch), model.getSortedFilteredPersonList());
+        assertEquals(SearchType.PERSON, model.getSearchContext().getSearchType());
+
+        // A listing search made while the person matches are live is cleared
+        model.setSearch(Set.of(pool), null, SearchType.LISTING, Model.PREDICATE_SHOW_ALL_PROPERTY_PREFERENCES);
+        model.resetAllListsExceptLiveMatches();
+        assertEquals(SearchType.NONE, model.getSearchContext().getSearchType());
+        assertEquals(List.of(priceMatch), model.getSortedFilteredPersonList());
+    }
+}
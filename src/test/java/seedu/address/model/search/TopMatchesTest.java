@@ -0,0 +1,64 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TopMatchesTest {
+
+    private static final int CANDIDATE_COUNT = 25;
+
+    /** Candidates 0 to 24, scored so that the best candidates are those with the highest remainder by 10. */
+    private final MatchRanking<Integer> ranking = new MatchRanking<>(createCandidates(), candidate -> candidate % 10);
+
+    @Test
+    public void getTopCandidates_matchesPrefixOfFullRanking() {
+        List<Integer> fullRanking = ranking.getRankedCandidates();
+        for (int limit = 1; limit <= CANDIDATE_COUNT + 1; limit++) {
+            assertEquals(fullRanking.subList(0, Math.min(limit, CANDIDATE_COUNT)), ranking.getTopCandidates(limit));
+        }
+        assertThrows(IllegalArgumentException.class, () -> ranking.getTopCandidates(0));
+    }
+
+    @Test
+    public void showMore_showsNextPageUntilEveryMatchIsShown() {
+        TopMatches<Integer> topMatches = new TopMatches<>(ranking, 10);
+        assertEquals(List.of(9, 19, 8, 18, 7, 17, 6, 16, 5, 15), topMatches.getShownMatches());
+        assertTrue(topMatches.test(15));
+        assertFalse(topMatches.test(24));
+        assertTrue(topMatches.hasMore());
+
+        topMatches = topMatches.showMore();
+        assertEquals(20, topMatches.getShownCount());
+        assertTrue(topMatches.test(24));
+
+        topMatches = topMatches.showMore();
+        assertEquals(CANDIDATE_COUNT, topMatches.getShownCount());
+        assertEquals(CANDIDATE_COUNT, topMatches.getTotalCount());
+        assertFalse(topMatches.hasMore());
+        assertThrows(IllegalArgumentException.class, topMatches::showMore);
+    }
+
+    @Test
+    public void test_equalButDifferentCandidate_notShown() {
+        String candidate = new String("a");
+        TopMatches<String> topMatches = new TopMatches<>(
+                new MatchRanking<>(List.of(candidate), shownCandidate -> 1), 10);
+        assertTrue(topMatches.test(candidate));
+        assertFalse(topMatches.test(new String("a")));
+    }
+
+    private static List<Integer> createCandidates() {
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < CANDIDATE_COUNT; i++) {
+            candidates.add(i);
+        }
+        return candidates;
+    }
+}
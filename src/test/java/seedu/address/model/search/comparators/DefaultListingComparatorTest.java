@@ -0,0 +1,64 @@
+package seedu.address.model.search.comparators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.listing.HouseNumber;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.listing.PostalCode;
+import seedu.address.model.listing.UnitNumber;
+import seedu.address.model.price.PriceRange;
+
+public class DefaultListingComparatorTest {
+
+    private final DefaultListingComparator comparator = new DefaultListingComparator();
+
+    @Test
+    public void compare_differentPostalCodes_ordersByPostalCode() {
+        Listing lower = withHouseNumber("123456", "9");
+        Listing higher = withUnitNumber("223456", "01-01");
+        assertTrue(comparator.compare(lower, higher) < 0);
+        assertTrue(comparator.compare(higher, lower) > 0);
+    }
+
+    @Test
+    public void compare_samePostalCode_ordersHouseNumberBeforeUnitNumber() {
+        Listing house = withHouseNumber("123456", "9");
+        Listing unit = withUnitNumber("123456", "01-01");
+        assertTrue(comparator.compare(house, unit) < 0);
+    }
+
+    @Test
+    public void compare_samePostalCode_ordersByUnitNumberThenHouseNumber() {
+        assertTrue(comparator.compare(withUnitNumber("123456", "01-01"), withUnitNumber("123456", "01-02")) < 0);
+        assertTrue(comparator.compare(withHouseNumber("123456", "10"), withHouseNumber("123456", "9")) < 0);
+    }
+
+    @Test
+    public void compare_sameAddress_returnsZero() {
+        assertEquals(0, comparator.compare(withUnitNumber("123456", "01-01"), withUnitNumber("123456", "01-01")));
+    }
+
+    @Test
+    public void hashCode_equalListings_sameHashCode() {
+        Listing listing = withUnitNumber("123456", "01-01");
+        Listing copy = withUnitNumber("123456", "01-01");
+        assertEquals(listing, copy);
+        assertEquals(listing.hashCode(), copy.hashCode());
+    }
+
+    private static Listing withUnitNumber(String postalCode, String unitNumber) {
+        return new Listing(new PostalCode(postalCode), new UnitNumber(unitNumber), new PriceRange(),
+                new HashSet<>(), new ArrayList<>(), true);
+    }
+
+    private static Listing withHouseNumber(String postalCode, String houseNumber) {
+        return new Listing(new PostalCode(postalCode), new HouseNumber(houseNumber), new PriceRange(),
+                new HashSet<>(), new ArrayList<>(), true);
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.model.search.comparators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class DefaultPersonComparatorTest {
+
+    private final DefaultPersonComparator comparator = new DefaultPersonComparator();
+
+    @Test
+    public void compare_differentNames_ordersByName() {
+        assertTrue(comparator.compare(ALICE, BENSON) < 0);
+        assertTrue(comparator.compare(BENSON, ALICE) > 0);
+    }
+
+    @Test
+    public void compare_nameIsPrefixOfOtherName_ordersShorterNameFirst() {
+        Person shorter = new PersonBuilder().withName("Alice").withPhone("99999999").build();
+        Person longer = new PersonBuilder().withName("Alice Pauline").withPhone("11111111").build();
+        assertTrue(comparator.compare(shorter, longer) < 0);
+    }
+
+    @Test
+    public void compare_sameName_ordersByPhone() {
+        Person lower = new PersonBuilder().withName("Alice").withPhone("11111111").build();
+        Person higher = new PersonBuilder().withName("Alice").withPhone("22222222").build();
+        assertTrue(comparator.compare(lower, higher) < 0);
+        assertEquals(0, comparator.compare(lower, new PersonBuilder(lower).build()));
+    }
+
+    @Test
+    public void hashCode_equalPersons_sameHashCode() {
+        Person copy = new PersonBuilder(ALICE).build();
+        assertEquals(ALICE, copy);
+        assertEquals(ALICE.hashCode(), copy.hashCode());
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagBitmapIndexTest {
+
+    private static final Tag POOL = new Tag("pool", new ArrayList<>(), new ArrayList<>());
+    private static final Tag GYM = new Tag("gym", new ArrayList<>(), new ArrayList<>());
+    private static final Tag PET_FRIENDLY = new Tag("pet-friendly", new ArrayList<>(), new ArrayList<>());
+
+    private final TagBitmapIndex<String> index = new TagBitmapIndex<>();
+
+    @Test
+    public void getWithAllTags_intersectsTags() {
+        add("pool and gym", List.of(POOL, GYM));
+        add("pool", List.of(POOL));
+        add("gym and pets", List.of(GYM, PET_FRIENDLY));
+
+        assertEquals(Set.of("pool and gym"), index.getWithAllTags(Set.of("Pool", "GYM")));
+        assertEquals(Set.of("pool and gym", "pool"), index.getWithAllTags(Set.of("pool")));
+        assertEquals(Set.of(), index.getWithAllTags(Set.of("pool", "unused")));
+        assertEquals(3, index.getWithAllTags(Set.of()).size());
+    }
+
+    @Test
+    public void getWithAnyTags_unitesTags() {
+        add("pool", List.of(POOL));
+        add("gym", List.of(GYM));
+        add("none", List.of());
+
+        assertEquals(Set.of("pool", "gym"), index.getWithAnyTags(Set.of("pool", "gym", "unused")));
+    }
+
+    @Test
+    public void add_itemAlreadyIndexed_replacesTags() {
+        add("item", List.of(POOL));
+        add("item", List.of(GYM));
+
+        assertEquals(1, index.size());
+        assertEquals(Set.of(), index.getWithAllTags(Set.of("pool")));
+        assertEquals(Set.of("item"), index.getWithAllTags(Set.of("gym")));
+    }
+
+    @Test
+    public void remove_idReused_doesNotMatchRemovedItem() {
+        String removed = new String("removed");
+        add(removed, List.of(POOL, GYM));
+        assertFalse(index.remove(new String("removed")));
+        assertTrue(index.remove(removed));
+
+        // The added item is given the id the removed item had
+        add("added", List.of(GYM));
+        assertEquals(Set.of(), index.getWithAllTags(Set.of("pool")));
+        assertEquals(Set.of("added"), index.getWithAllTags(Set.of("gym")));
+    }
+
+    private void add(String item, List<Tag> tags) {
+        index.add(item, tags);
+    }
+}
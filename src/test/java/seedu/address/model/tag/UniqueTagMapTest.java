@@ -2,6 +2,7 @@ package seedu.address.model.tag;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -73,6 +74,39 @@ public class UniqueTagMapTest {
         assertThrows(TagNotFoundException.class, () -> uniqueTagMap.get("LANDED"));
     }
 
+    @Test
+    public void getTag_anyLetterCase_returnsSameTag() {
+        uniqueTagMap.add(tag1);
+        assertTrue(uniqueTagMap.contains("hDb"));
+        assertSame(tag1, uniqueTagMap.get("hdb"));
+        assertSame(tag1, uniqueTagMap.get("hdb"));
+        assertFalse(uniqueTagMap.contains("h"));
+    }
+
+    @Test
+    public void getTag_tagReplaced_returnsReplacement() {
+        uniqueTagMap.add(tag1);
+        uniqueTagMap.get("hdb");
+
+        Tag replacement = new Tag("hdb", new ArrayList<>(), new ArrayList<>());
+        uniqueTagMap.setTag(tag1, replacement);
+        assertSame(replacement, uniqueTagMap.get("hdb"));
+
+        uniqueTagMap.remove(replacement);
+        assertFalse(uniqueTagMap.contains("hdb"));
+    }
+
+    @Test
+    public void getTag_tagRenamed_oldNameNotFound() {
+        uniqueTagMap.add(tag1);
+        uniqueTagMap.get("hdb");
+
+        Tag renamed = new Tag("CONDOMINIUM", new ArrayList<>(), new ArrayList<>());
+        uniqueTagMap.setTag(tag1, renamed);
+        assertFalse(uniqueTagMap.contains("hdb"));
+        assertSame(renamed, uniqueTagMap.get("condominium"));
+    }
+
     @Test
     public void removeTag_existingTag_success() {
         uniqueTagMap.add(tag1);
@@ -0,0 +1,34 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+public class DenseIdMapTest {
+
+    private final DenseIdMap<String> ids = new DenseIdMap<>();
+
+    @Test
+    public void assign_newObjects_givesConsecutiveIds() {
+        assertEquals(0, ids.assign("a"));
+        assertEquals(1, ids.assign("b"));
+        assertEquals(0, ids.assign("a"));
+    }
+
+    @Test
+    public void assign_afterRelease_reusesLowestFreeId() {
+        ids.assign("a");
+        ids.assign("b");
+        ids.assign("c");
+
+        assertEquals(1, ids.release("b"));
+        assertEquals(0, ids.release("a"));
+        assertEquals(DenseIdMap.NO_ID, ids.release("a"));
+        assertNull(ids.get(0));
+
+        assertEquals(0, ids.assign("d"));
+        assertEquals(1, ids.assign("e"));
+        assertEquals(3, ids.assign("f"));
+    }
+}
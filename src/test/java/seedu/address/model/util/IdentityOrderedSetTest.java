@@ -0,0 +1,91 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class IdentityOrderedSetTest {
+
+    private final IdentityOrderedSet<String> set = new IdentityOrderedSet<>();
+
+    @Test
+    public void add_keepsInsertionOrder() {
+        set.addAll(List.of("c", "a", "b"));
+        assertFalse(set.add("a"));
+        assertEquals(List.of("c", "a", "b"), set.asUnmodifiableList());
+    }
+
+    @Test
+    public void remove_equalButDifferentObject_notRemoved() {
+        String element = new String("a");
+        set.add(element);
+
+        assertFalse(set.remove(new String("a")));
+        assertTrue(set.contains(element));
+        assertTrue(set.remove(element));
+        assertFalse(set.contains(element));
+    }
+
+    @Test
+    public void asUnmodifiableList_afterRemovals_reflectsRemainingElements() {
+        List<String> view = set.asUnmodifiableList();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            String element = String.valueOf(i);
+            set.add(element);
+            if (i % 3 == 0) {
+                set.remove(element);
+            } else {
+                expected.add(element);
+            }
+        }
+
+        assertEquals(expected.size(), set.size());
+        assertEquals(expected, view);
+        assertEquals(expected.get(10), view.get(10));
+    }
+
+    @Test
+    public void remove_mostElements_remainingElementsKeptInOrder() {
+        List<String> elements = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            elements.add(String.valueOf(i));
+        }
+        set.addAll(elements);
+
+        // Removes enough elements for the gaps to be closed, and then leaves a few gaps open
+        for (int i = 0; i < 95; i++) {
+            set.remove(elements.get(i));
+        }
+        set.remove(elements.get(97));
+        assertEquals(List.of("95", "96", "98", "99"), set.asUnmodifiableList());
+        assertEquals("98", set.asUnmodifiableList().get(2));
+        assertTrue(set.contains(elements.get(99)));
+        assertTrue(set.remove(elements.get(99)));
+        assertEquals(List.of("95", "96", "98"), set.asUnmodifiableList());
+    }
+
+    @Test
+    public void asUnmodifiableList_modify_throwsUnsupportedOperationException() {
+        set.add("a");
+        assertThrows(UnsupportedOperationException.class, () -> set.asUnmodifiableList().remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> set.asUnmodifiableList().add("b"));
+    }
+
+    @Test
+    public void iterator_setModified_throwsConcurrentModificationException() {
+        set.addAll(List.of("a", "b"));
+        Iterator<String> iterator = set.iterator();
+        iterator.next();
+        set.remove("b");
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+}
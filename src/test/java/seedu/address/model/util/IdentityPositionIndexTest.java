@@ -0,0 +1,49 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class IdentityPositionIndexTest {
+
+    private final List<String> list = new ArrayList<>();
+    private final IdentityPositionIndex<String> positions = new IdentityPositionIndex<>(list);
+
+    @Test
+    public void indexOf_equalButDifferentObject_notFound() {
+        add("a");
+        assertEquals(-1, positions.indexOf(new String("a")));
+        assertEquals(0, positions.indexOf(list.get(0)));
+    }
+
+    @Test
+    public void indexOf_afterReplacementsAndRemovals_matchesList() {
+        for (int i = 0; i < 10; i++) {
+            add(String.valueOf(i));
+        }
+
+        String replacement = "replacement";
+        positions.replaced(4, list.set(4, replacement), replacement);
+        remove(2);
+        remove(6);
+        add("last");
+        remove(0);
+
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, positions.indexOf(list.get(i)));
+        }
+    }
+
+    private void add(String element) {
+        String copy = new String(element);
+        list.add(copy);
+        positions.added(copy);
+    }
+
+    private void remove(int index) {
+        positions.removed(index, list.remove(index));
+    }
+}
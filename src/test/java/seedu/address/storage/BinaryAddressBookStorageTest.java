@@ -0,0 +1,184 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.AddressBookFileFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Returns an address book with persons, preferences, listings, owners and tags.
+     */
+    private static AddressBook getAddressBookWithListings() throws Exception {
+        JsonAdaptedPreference preference = new JsonAdaptedPreference(
+                new JsonAdaptedPriceRange(new BigDecimal("1500000.50"), new BigDecimal("800000")),
+                List.of(new JsonAdaptedTag("POOL"), new JsonAdaptedTag("GYM")));
+        JsonAdaptedPerson alice = new JsonAdaptedPerson(ALICE.getName().fullName, ALICE.getPhone().value,
+                ALICE.getEmail().value, List.of(preference));
+        JsonAdaptedPerson benson = new JsonAdaptedPerson(BENSON);
+
+        JsonAdaptedListing unit = new JsonAdaptedListing("123456", "10-01", null,
+                new JsonAdaptedPriceRange(null, new BigDecimal("900000")), "Sunrise Towers",
+                List.of(new JsonAdaptedTag("POOL")), List.of(ALICE.getPhone().value, BENSON.getPhone().value), true);
+        JsonAdaptedListing house = new JsonAdaptedListing("654321", null, "12A",
+                new JsonAdaptedPriceRange(null, null), null, List.of(), List.of(BENSON.getPhone().value), false);
+
+        return new JsonSerializableAddressBook(List.of(alice, benson), List.of(unit, house),
+                List.of(new JsonAdaptedTag("POOL"), new JsonAdaptedTag("GYM"), new JsonAdaptedTag("UNUSED")))
+                .toModelType();
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("notBinary.bin");
+        FileUtil.writeToFile(filePath, "{ \"persons\" : [ ] }");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("truncated.bin");
+        byte[] bytes = BinaryAddressBookCodec.encode(getAddressBookWithListings());
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedListingRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("truncatedListing.bin");
+        byte[] bytes = BinaryAddressBookCodec.encode(getAddressBookWithListings());
+        // Only the last listing's record is cut short.
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void decode_countLargerThanData_throwsIoException() {
+        // A string table claiming 2^31 - 1 strings, followed by no strings
+        byte[] bytes = {'M', 'E', 'S', 'B', 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+        assertThrows(IOException.class, () -> BinaryAddressBookCodec.decode(ByteBuffer.wrap(bytes)));
+    }
+
+    @Test
+    public void decode_encodedAddressBook_sameAddressBook() throws Exception {
+        AddressBook original = getAddressBookWithListings();
+        JsonSerializableAddressBook decoded =
+                BinaryAddressBookCodec.decode(ByteBuffer.wrap(BinaryAddressBookCodec.encode(original)));
+        assertEquals(original, decoded.toModelType());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getAddressBookWithListings();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getTagMap().keySet(), readBack.getTagMap().keySet());
+
+        // Modify data, overwrite existing file, and read back
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameAddressBook() throws Exception {
+        Path jsonFilePath = testFolder.resolve("original.json");
+        Path binaryFilePath = testFolder.resolve("converted.bin");
+        Path convertedJsonFilePath = testFolder.resolve("converted.json");
+        AddressBook original = getAddressBookWithListings();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        AddressBookFileConverter.convertJsonToBinary(jsonFilePath, binaryFilePath);
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get()));
+
+        AddressBookFileConverter.convertBinaryToJson(binaryFilePath, convertedJsonFilePath);
+        assertEquals(original,
+                new AddressBook(new JsonAddressBookStorage(convertedJsonFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void createStorage_jsonFileWithOtherFormatPreferred_convertedNextToIt() throws Exception {
+        Path jsonFilePath = testFolder.resolve("matchestate.json");
+        AddressBook original = getAddressBookWithListings();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(jsonFilePath);
+        userPrefs.setAddressBookFileFormat(AddressBookFileFormat.BINARY);
+        AddressBookStorage storage = AddressBookFileConverter.createStorage(userPrefs);
+        assertEquals(testFolder.resolve("matchestate.bin"), userPrefs.getAddressBookFilePath());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertTrue(Files.exists(jsonFilePath));
+
+        userPrefs.setAddressBookFileFormat(AddressBookFileFormat.SHARDED);
+        storage = AddressBookFileConverter.createStorage(userPrefs);
+        assertEquals(testFolder.resolve("matchestate"), userPrefs.getAddressBookFilePath());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void createStorage_nothingSavedYet_pathNamedForPreferredFormat() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(testFolder.resolve("matchestate.json"));
+        userPrefs.setAddressBookFileFormat(AddressBookFileFormat.BINARY);
+
+        AddressBookStorage storage = AddressBookFileConverter.createStorage(userPrefs);
+        assertTrue(storage instanceof BinaryAddressBookStorage);
+        assertEquals(testFolder.resolve("matchestate.bin"), storage.getAddressBookFilePath());
+    }
+
+    @Test
+    public void createStorage_unconvertibleFile_openedInSavedFormat() throws Exception {
+        Path jsonFilePath = testFolder.resolve("matchestate.json");
+        FileUtil.writeToFile(jsonFilePath, "not json");
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(jsonFilePath);
+        userPrefs.setAddressBookFileFormat(AddressBookFileFormat.BINARY);
+
+        AddressBookStorage storage = AddressBookFileConverter.createStorage(userPrefs);
+        assertTrue(storage instanceof JsonAddressBookStorage);
+        assertEquals(jsonFilePath, userPrefs.getAddressBookFilePath());
+        assertEquals("not json", FileUtil.readFromFile(jsonFilePath));
+    }
+
+    @Test
+    public void convert_missingSourceFile_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> AddressBookFileConverter.convertJsonToBinary(
+                testFolder.resolve("missing.json"), testFolder.resolve("converted.bin")));
+    }
+}
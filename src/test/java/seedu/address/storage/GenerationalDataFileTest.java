@@ -0,0 +1,125 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+
+public class GenerationalDataFileTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private static void write(GenerationalDataFile dataFile, String content) throws IOException {
+        dataFile.write(out -> out.write(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Reads the content of the latest loadable generation, failing to load any generation whose content is "bad".
+     */
+    private static Optional<String> read(GenerationalDataFile dataFile) throws DataLoadingException {
+        return dataFile.read(filePath -> {
+            try {
+                String content = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+                if (content.equals("bad")) {
+                    throw new DataLoadingException(new IOException("Unreadable content"));
+                }
+                return content;
+            } catch (IOException ioe) {
+                throw new DataLoadingException(ioe);
+            }
+        });
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(read(new GenerationalDataFile(testFolder.resolve("missing.dat"))).isPresent());
+    }
+
+    @Test
+    public void write_severalSaves_keepsLatestBackups() throws Exception {
+        GenerationalDataFile dataFile = new GenerationalDataFile(testFolder.resolve("data.dat"), 2);
+        write(dataFile, "first");
+        write(dataFile, "second");
+        write(dataFile, "third");
+
+        assertEquals(Optional.of("third"), read(dataFile));
+        assertEquals("third", FileUtil.readFromFile(dataFile.getFilePath()));
+        assertEquals(Optional.empty(), dataFile.getRecoveredBackupPath());
+        assertEquals(Optional.of("second"), read(new GenerationalDataFile(dataFile.getBackupPath(1))));
+        assertEquals(Optional.of("first"), read(new GenerationalDataFile(dataFile.getBackupPath(2))));
+
+        write(dataFile, "fourth");
+        assertEquals(Optional.of("second"), read(new GenerationalDataFile(dataFile.getBackupPath(2))));
+        assertFalse(Files.exists(dataFile.getBackupPath(3)));
+    }
+
+    @Test
+    public void read_damagedFile_recoversLatestIntactBackup() throws Exception {
+        GenerationalDataFile dataFile = new GenerationalDataFile(testFolder.resolve("data.dat"));
+        write(dataFile, "first");
+        write(dataFile, "second");
+        write(dataFile, "third");
+
+        // Flips a byte of the latest save and fails to load the save before it
+        byte[] bytes = Files.readAllBytes(dataFile.getFilePath());
+        bytes[0] ^= 1;
+        Files.write(dataFile.getFilePath(), bytes);
+        assertThrows(IOException.class, () -> GenerationalDataFile.verify(dataFile.getFilePath()));
+        write(new GenerationalDataFile(dataFile.getBackupPath(1), 0), "bad");
+
+        assertEquals(Optional.of("first"), read(dataFile));
+        assertEquals(Optional.of(dataFile.getBackupPath(2)), dataFile.getRecoveredBackupPath());
+    }
+
+    @Test
+    public void read_noChecksumFile_readUnchecked() throws Exception {
+        GenerationalDataFile dataFile = new GenerationalDataFile(testFolder.resolve("data.dat"));
+        write(dataFile, "saved");
+
+        // A data file edited by hand is only loaded once its checksum file is deleted
+        FileUtil.writeToFile(dataFile.getFilePath(), "edited by hand");
+        assertThrows(DataLoadingException.class, () -> read(dataFile));
+        Files.delete(GenerationalDataFile.getChecksumPath(dataFile.getFilePath()));
+        assertEquals(Optional.of("edited by hand"), read(dataFile));
+    }
+
+    @Test
+    public void read_completeTempFile_recoveredOverOlderSave() throws Exception {
+        Path filePath = testFolder.resolve("data.dat");
+        GenerationalDataFile dataFile = new GenerationalDataFile(filePath);
+        write(dataFile, "older");
+        write(dataFile, "interrupted");
+
+        // A save interrupted just before its temporary file was moved over the data file
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + GenerationalDataFile.TEMP_FILE_SUFFIX);
+        Files.move(filePath, tempFilePath);
+        Files.move(GenerationalDataFile.getChecksumPath(filePath), GenerationalDataFile.getChecksumPath(tempFilePath));
+        assertEquals(Optional.of("interrupted"), read(dataFile));
+
+        // An incomplete temporary file is ignored
+        Files.write(tempFilePath, "incomplete".getBytes(StandardCharsets.UTF_8));
+        assertFalse(read(dataFile).isPresent());
+    }
+
+    @Test
+    public void read_noLoadableGeneration_throwsDataLoadingException() throws Exception {
+        GenerationalDataFile dataFile = new GenerationalDataFile(testFolder.resolve("data.dat"));
+        write(dataFile, "bad");
+        write(dataFile, "bad");
+        assertThrows(DataLoadingException.class, () -> read(dataFile));
+        assertTrue(Files.exists(dataFile.getBackupPath(1)));
+    }
+}
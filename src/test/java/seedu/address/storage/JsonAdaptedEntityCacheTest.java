@@ -0,0 +1,43 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonAdaptedEntityCacheTest {
+
+    private static void assertSameAsUncached(JsonAdaptedEntityCache cache, AddressBook addressBook)
+            throws Exception {
+        cache.invalidate(addressBook, addressBook.pollChanges());
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)),
+                JsonUtil.toJsonString(cache.toSerializable(addressBook)));
+    }
+
+    @Test
+    public void toSerializable_afterChanges_sameAsUncached() throws Exception {
+        JsonAdaptedEntityCache cache = new JsonAdaptedEntityCache();
+        AddressBook addressBook = getTypicalAddressBook();
+        assertSameAsUncached(cache, addressBook);
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Tan").build();
+        addressBook.setPerson(BENSON, editedBenson);
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(HOON);
+        assertSameAsUncached(cache, addressBook);
+
+        // Another address book is converted from scratch
+        assertSameAsUncached(cache, getTypicalAddressBook());
+
+        addressBook.resetData(getTypicalAddressBook());
+        assertSameAsUncached(cache, addressBook);
+    }
+}
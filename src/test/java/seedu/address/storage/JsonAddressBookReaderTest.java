@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAdaptedJournalEntry.Type;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TYPICAL_PERSONS_FILE = Paths.get("src", "test", "data",
+            "JsonSerializableAddressBookTest", "typicalPersonsAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_tagsBeforeOrAfterPersons_sameAddressBook() throws Exception {
+        AddressBook typicalPersonsAddressBook = TypicalPersons.getTypicalAddressBook();
+        assertEquals(typicalPersonsAddressBook, read(TYPICAL_PERSONS_FILE, List.of()));
+
+        Path filePath = testFolder.resolve("tagsFirst.json");
+        try (JsonGenerator generator = JsonUtil.createJsonFileGenerator(filePath)) {
+            new JsonSerializableAddressBook(typicalPersonsAddressBook).writeTo(generator);
+        }
+        assertEquals(typicalPersonsAddressBook, read(filePath, List.of()));
+    }
+
+    @Test
+    public void read_journalEntries_replayedInPlaceOfReadPersons() throws Exception {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (String phone : List.of("91111111", "92222222", "93333333", "94444444")) {
+            persons.add(person("Person", phone));
+        }
+        Path filePath = testFolder.resolve("persons.json");
+        try (JsonGenerator generator = JsonUtil.createJsonFileGenerator(filePath)) {
+            new JsonSerializableAddressBook(persons, List.of(), List.of()).writeTo(generator);
+        }
+
+        List<JsonAdaptedJournalEntry> journalEntries = List.of(
+                new JsonAdaptedJournalEntry(Type.REMOVE_PERSON, "92222222", null, null, null),
+                new JsonAdaptedJournalEntry(Type.PUT_PERSON, null, person("Carl", "93333333"), null, null),
+                new JsonAdaptedJournalEntry(Type.REMOVE_PERSON, "91111111", null, null, null),
+                new JsonAdaptedJournalEntry(Type.PUT_PERSON, null, person("Alice", "91111111"), null, null),
+                new JsonAdaptedJournalEntry(Type.PUT_PERSON, null, person("Elle", "95555555"), null, null));
+
+        List<String> names = new ArrayList<>();
+        for (Person person : read(filePath, journalEntries).getPersonList()) {
+            names.add(person.getName().fullName);
+        }
+        assertEquals(List.of("Carl", "Person", "Alice", "Elle"), names);
+    }
+
+    private static JsonAdaptedPerson person(String name, String phone) {
+        return new JsonAdaptedPerson(name, phone, "person@example.com", null);
+    }
+
+    private static AddressBook read(Path filePath, List<JsonAdaptedJournalEntry> journalEntries) throws Exception {
+        try (JsonParser parser = JsonUtil.createJsonFileParser(filePath)) {
+            return new JsonAddressBookReader(journalEntries).read(parser);
+        }
+    }
+}
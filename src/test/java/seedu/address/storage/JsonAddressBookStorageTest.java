@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,13 +10,16 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -86,6 +90,69 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_changesAfterFullSave_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = new JsonAddressBookJournal(filePath).getFilePath();
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        jsonAddressBookStorage.saveAddressBook(original, filePath);
+        String snapshot = FileUtil.readFromFile(filePath);
+        assertFalse(Files.exists(journalFilePath));
+
+        // Only the journal is written
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        jsonAddressBookStorage.saveAddressBook(original, filePath);
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertTrue(Files.exists(journalFilePath));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook(filePath).get()));
+
+        // An interrupted append is skipped
+        FileUtil.appendToFile(journalFilePath, "{\"type\":\"PUT_PERS");
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook(filePath).get()));
+
+        // Replacing the whole address book compacts the journal
+        original.resetData(getTypicalAddressBook());
+        jsonAddressBookStorage.saveAddressBook(original, filePath);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook(filePath).get()));
+    }
+
+    @Test
+    public void readAddressBook_damagedFile_recoversPreviousSaveWithItsJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original, filePath);
+        original.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(original, filePath);
+        AddressBook previousSave = new AddressBook(original);
+
+        original.resetData(new AddressBook());
+        jsonAddressBookStorage.saveAddressBook(original, filePath);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook(filePath).get()));
+        assertEquals(Optional.empty(), jsonAddressBookStorage.getRecoveredBackupPath());
+
+        // The checksum no longer matches, so the backup is loaded instead of the damaged file
+        FileUtil.writeToFile(filePath, FileUtil.readFromFile(filePath).replace("persons", "persona"));
+        assertEquals(previousSave, new AddressBook(jsonAddressBookStorage.readAddressBook(filePath).get()));
+        assertEquals(Optional.of(new GenerationalDataFile(filePath).getBackupPath(1)),
+                jsonAddressBookStorage.getRecoveredBackupPath());
+    }
+
+    @Test
+    public void readAddressBook_malformedJournalEntry_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original, filePath);
+
+        FileUtil.writeToFile(new JsonAddressBookJournal(filePath).getFilePath(), "{\"type\":\"PUT_PERSON\"}\n\n");
+        assertThrows(DataLoadingException.class, () -> jsonAddressBookStorage.readAddressBook(filePath));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -5,12 +5,21 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -20,6 +29,34 @@ public class JsonSerializableAddressBookTest {
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
 
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readFrom_typicalPersonsFile_sameAsReadJsonFile() throws Exception {
+        try (JsonParser parser = JsonUtil.createJsonFileParser(TYPICAL_PERSONS_FILE)) {
+            AddressBook addressBookFromFile = JsonSerializableAddressBook.readFrom(parser).toModelType();
+            assertEquals(TypicalPersons.getTypicalAddressBook(), addressBookFromFile);
+        }
+    }
+
+    @Test
+    public void writeTo_typicalPersons_readBackSuccess() throws Exception {
+        Path filePath = testFolder.resolve("streamedAddressBook.json");
+        AddressBook typicalPersonsAddressBook = TypicalPersons.getTypicalAddressBook();
+        try (JsonGenerator generator = JsonUtil.createJsonFileGenerator(filePath)) {
+            new JsonSerializableAddressBook(typicalPersonsAddressBook).writeTo(generator);
+        }
+
+        // streamed file can be read by both readers
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(filePath,
+                JsonSerializableAddressBook.class).get();
+        assertEquals(typicalPersonsAddressBook, dataFromFile.toModelType());
+        try (JsonParser parser = JsonUtil.createJsonFileParser(filePath)) {
+            assertEquals(typicalPersonsAddressBook, JsonSerializableAddressBook.readFrom(parser).toModelType());
+        }
+    }
+
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
@@ -29,6 +66,45 @@ public class JsonSerializableAddressBookTest {
         assertEquals(addressBookFromFile, typicalPersonsAddressBook);
     }
 
+    @Test
+    public void toModelType_manyPersonsAndListings_sameAsSequential() throws Exception {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        List<JsonAdaptedListing> listings = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            String phone = String.valueOf(90000000 + i);
+            persons.add(new JsonAdaptedPerson("Person", phone, "person" + i + "@example.com", null));
+            listings.add(new JsonAdaptedListing(String.format("%06d", i), null, String.valueOf(i % 999 + 1),
+                    new JsonAdaptedPriceRange(null, null), null, List.of(new JsonAdaptedTag("POOL")),
+                    List.of(phone), true));
+        }
+
+        AddressBook addressBook = new JsonSerializableAddressBook(persons, listings,
+                List.of(new JsonAdaptedTag("POOL"))).toModelType();
+
+        assertEquals(5000, addressBook.getPersonList().size());
+        for (int i = 0; i < 5000; i++) {
+            Person person = addressBook.getPersonList().get(i);
+            Listing listing = addressBook.getListingList().get(i);
+            assertEquals(String.valueOf(90000000 + i), person.getPhone().value);
+            assertEquals(List.of(person), listing.getOwners());
+            assertEquals(List.of(listing), person.getListings());
+        }
+        assertEquals(5000, addressBook.getTagMap().get("POOL").getNumListings());
+    }
+
+    @Test
+    public void toModelType_manyPersonsWithInvalidPersons_throwsFirstFailure() {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            persons.add(new JsonAdaptedPerson("Person", String.valueOf(90000000 + i), "person@example.com", null));
+        }
+        persons.set(1000, new JsonAdaptedPerson("Person", "12", "person@example.com", null));
+        persons.set(4000, new JsonAdaptedPerson("R@chel", "91234567", "person@example.com", null));
+
+        JsonSerializableAddressBook addressBook = new JsonSerializableAddressBook(persons, List.of(), List.of());
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, addressBook::toModelType);
+    }
+
     @Test
     public void toModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_PERSON_FILE,
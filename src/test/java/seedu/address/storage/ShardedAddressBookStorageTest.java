@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private static Map<String, String> readFiles(Path directoryPath) throws IOException {
+        Map<String, String> contents = new HashMap<>();
+        try (Stream<Path> files = Files.list(directoryPath)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                contents.put(file.getFileName().toString(), FileUtil.readFromFile(file));
+            }
+        }
+        return contents;
+    }
+
+    private static List<String> getChangedFiles(Map<String, String> before, Map<String, String> after) {
+        return after.keySet().stream()
+                .filter(fileName -> !after.get(fileName).equals(before.get(fileName)))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void readAddressBook_missingDirectory_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("missing")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path directoryPath = testFolder.resolve("data");
+        AddressBook original = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath, 4);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Persons keep their order even though they are spread over shards
+        original.removePerson(ALICE);
+        original.addPerson(HOON);
+        original.addPerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(directoryPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_editedPerson_onlyItsShardRewritten() throws Exception {
+        Path directoryPath = testFolder.resolve("data");
+        AddressBook original = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath, 4);
+        storage.saveAddressBook(original);
+        Map<String, String> fullSave = readFiles(directoryPath);
+
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Tan").build());
+        storage.saveAddressBook(original);
+        int shard = Math.floorMod(BENSON.getPhone().value.hashCode(), 4);
+        assertEquals(List.of("persons-" + shard + ".json", "persons-" + shard + ".json.checksum"),
+                getChangedFiles(fullSave, readFiles(directoryPath)));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_editedPhone_personKeepsItsPlace() throws Exception {
+        Path directoryPath = testFolder.resolve("data");
+        AddressBook original = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath, 4);
+        storage.saveAddressBook(original);
+
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("99999999").build());
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(directoryPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_damagedShard_throwsDataLoadingException() throws Exception {
+        Path directoryPath = testFolder.resolve("data");
+        new ShardedAddressBookStorage(directoryPath, 1).saveAddressBook(getTypicalAddressBook());
+
+        Path shardPath = directoryPath.resolve("persons-0.json");
+        FileUtil.writeToFile(shardPath, FileUtil.readFromFile(shardPath).replace("Alice", "Alicia"));
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(directoryPath).readAddressBook());
+    }
+}
@@ -1,10 +1,16 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -60,6 +66,56 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void addressBookReadSave_savingInBackground_success() throws Exception {
+        StorageManager backgroundStorageManager = new StorageManager(
+                new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+
+        AddressBook original = getTypicalAddressBook();
+        backgroundStorageManager.saveAddressBook(original);
+        original.addPerson(HOON);
+        backgroundStorageManager.saveAddressBook(original);
+        original.removePerson(ALICE);
+        backgroundStorageManager.saveAddressBook(original);
+        backgroundStorageManager.flushAddressBook();
+
+        ReadOnlyAddressBook retrieved = backgroundStorageManager.readAddressBook().get();
+        assertEquals(original, new AddressBook(retrieved));
+        assertFalse(backgroundStorageManager.pollAddressBookSaveFailure().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_savingInBackgroundFails_failureReportedOnce() throws Exception {
+        IOException failure = new IOException("Disk full");
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public AddressBookSnapshot snapshotAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                return new AddressBookSnapshot() {
+                    @Override
+                    public void write() throws IOException {
+                        throw failure;
+                    }
+
+                    @Override
+                    public Optional<AddressBookSnapshot> coalesce(AddressBookSnapshot next) {
+                        return Optional.empty();
+                    }
+                };
+            }
+        };
+        StorageManager backgroundStorageManager = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+
+        // saving itself does not throw
+        backgroundStorageManager.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, "Disk full", backgroundStorageManager::flushAddressBook);
+
+        // failure is only reported once
+        backgroundStorageManager.flushAddressBook();
+        assertFalse(backgroundStorageManager.pollAddressBookSaveFailure().isPresent());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
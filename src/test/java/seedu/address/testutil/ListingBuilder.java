@@ -0,0 +1,130 @@
+package seedu.address.testutil;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.listing.Listing;
+import seedu.address.model.listing.PostalCode;
+import seedu.address.model.listing.UnitNumber;
+import seedu.address.model.person.Person;
+import seedu.address.model.price.Price;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A utility class to help with building Listing objects.
+ * The built listing is linked to its tags and owners, as the commands that add them link them.
+ */
+public class ListingBuilder {
+
+    public static final String DEFAULT_POSTAL_CODE = "123456";
+    public static final String DEFAULT_UNIT_NUMBER = "01-01";
+    public static final String DEFAULT_LOWER_BOUND_PRICE = "100";
+    public static final String DEFAULT_UPPER_BOUND_PRICE = "200";
+
+    private PostalCode postalCode;
+    private UnitNumber unitNumber;
+    private PriceRange priceRange;
+    private Set<Tag> tags;
+    private List<Person> owners;
+    private boolean isAvailable;
+
+    /**
+     * Creates a {@code ListingBuilder} with the default details.
+     */
+    public ListingBuilder() {
+        postalCode = new PostalCode(DEFAULT_POSTAL_CODE);
+        unitNumber = new UnitNumber(DEFAULT_UNIT_NUMBER);
+        priceRange = priceRange(DEFAULT_LOWER_BOUND_PRICE, DEFAULT_UPPER_BOUND_PRICE);
+        tags = new HashSet<>();
+        owners = new ArrayList<>();
+        isAvailable = true;
+    }
+
+    /**
+     * Sets the {@code PostalCode} of the {@code Listing} that we are building.
+     */
+    public ListingBuilder withPostalCode(String postalCode) {
+        this.postalCode = new PostalCode(postalCode);
+        return this;
+    }
+
+    /**
+     * Sets the {@code PostalCode} of the {@code Listing} that we are building to {@code number}, padded to six digits.
+     */
+    public ListingBuilder withPostalCode(int number) {
+        return withPostalCode(String.format("%06d", number));
+    }
+
+    /**
+     * Sets the {@code UnitNumber} of the {@code Listing} that we are building.
+     */
+    public ListingBuilder withUnitNumber(String unitNumber) {
+        this.unitNumber = new UnitNumber(unitNumber);
+        return this;
+    }
+
+    /**
+     * Sets the {@code PriceRange} of the {@code Listing} that we are building.
+     */
+    public ListingBuilder withPriceRange(String lowerBoundPrice, String upperBoundPrice) {
+        this.priceRange = priceRange(lowerBoundPrice, upperBoundPrice);
+        return this;
+    }
+
+    /**
+     * Sets the tags of the {@code Listing} that we are building, ignoring nulls.
+     */
+    public ListingBuilder withTags(Tag... tags) {
+        this.tags = toSet(tags);
+        return this;
+    }
+
+    /**
+     * Sets the owners of the {@code Listing} that we are building.
+     */
+    public ListingBuilder withOwners(Person... owners) {
+        this.owners = new ArrayList<>(List.of(owners));
+        return this;
+    }
+
+    /**
+     * Sets the availability of the {@code Listing} that we are building.
+     */
+    public ListingBuilder withAvailability(boolean isAvailable) {
+        this.isAvailable = isAvailable;
+        return this;
+    }
+
+    /**
+     * Builds the {@code Listing} and links it to its tags and owners.
+     */
+    public Listing build() {
+        Listing listing = new Listing(postalCode, unitNumber, priceRange, tags, owners, isAvailable);
+        tags.forEach(tag -> tag.addListing(listing));
+        owners.forEach(owner -> owner.addListing(listing));
+        return listing;
+    }
+
+    /**
+     * Returns the price range from {@code lowerBoundPrice} to {@code upperBoundPrice}.
+     */
+    public static PriceRange priceRange(String lowerBoundPrice, String upperBoundPrice) {
+        return new PriceRange(new Price(lowerBoundPrice), new Price(upperBoundPrice));
+    }
+
+    /**
+     * Returns the non-null elements of {@code tags}.
+     */
+    static Set<Tag> toSet(Tag... tags) {
+        Set<Tag> tagSet = new HashSet<>();
+        for (Tag tag : tags) {
+            if (tag != null) {
+                tagSet.add(tag);
+            }
+        }
+        return tagSet;
+    }
+}
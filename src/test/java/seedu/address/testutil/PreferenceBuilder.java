@@ -0,0 +1,60 @@
+package seedu.address.testutil;
+
+import static seedu.address.testutil.ListingBuilder.priceRange;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A utility class to help with building PropertyPreference objects.
+ * The built preference is added to its person and linked to its tags, as {@code AddPreferenceCommand} links them.
+ */
+public class PreferenceBuilder {
+
+    public static final String DEFAULT_LOWER_BOUND_PRICE = "100";
+    public static final String DEFAULT_UPPER_BOUND_PRICE = "200";
+
+    private final Person person;
+    private PriceRange priceRange;
+    private Set<Tag> tags;
+
+    /**
+     * Creates a {@code PreferenceBuilder} for a preference of {@code person} with the default details.
+     */
+    public PreferenceBuilder(Person person) {
+        this.person = person;
+        priceRange = priceRange(DEFAULT_LOWER_BOUND_PRICE, DEFAULT_UPPER_BOUND_PRICE);
+        tags = new HashSet<>();
+    }
+
+    /**
+     * Sets the {@code PriceRange} of the {@code PropertyPreference} that we are building.
+     */
+    public PreferenceBuilder withPriceRange(String lowerBoundPrice, String upperBoundPrice) {
+        this.priceRange = priceRange(lowerBoundPrice, upperBoundPrice);
+        return this;
+    }
+
+    /**
+     * Sets the tags of the {@code PropertyPreference} that we are building, ignoring nulls.
+     */
+    public PreferenceBuilder withTags(Tag... tags) {
+        this.tags = ListingBuilder.toSet(tags);
+        return this;
+    }
+
+    /**
+     * Builds the {@code PropertyPreference}, adds it to the person and links it to its tags.
+     */
+    public PropertyPreference build() {
+        PropertyPreference preference = new PropertyPreference(priceRange, tags, person);
+        tags.forEach(tag -> tag.addPropertyPreference(preference));
+        person.addPropertyPreference(preference);
+        return preference;
+    }
+}